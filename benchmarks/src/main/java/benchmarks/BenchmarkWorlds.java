@@ -0,0 +1,85 @@
+package benchmarks;
+
+import gui.Enemies.BasicEnemy;
+import gui.Enemies.Enemy;
+import gui.Enemies.FastEnemy;
+import gui.Enemies.TankEnemy;
+import gui.GameMechanics.Achievement;
+import gui.GameMechanics.Bullet;
+import gui.GameMechanics.BulletPool;
+import gui.GameMechanics.InMemoryProgressStore;
+import gui.GameMechanics.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class BenchmarkWorlds {
+    static final long SEED = 20240601L;
+    static final int TICKS_PER_BATCH = 20;
+
+    private BenchmarkWorlds() {
+    }
+
+    static World newWorld() {
+        return new World(new ArrayList<Achievement>(), SEED, new InMemoryProgressStore());
+    }
+
+    // Одна и та же расстановка для каждой итерации: враги создаются один раз и возвращаются на свои места
+    // через respawn, пули берутся из пула мира, а reset() возвращает в него оставшиеся с прошлой итерации.
+    // Восстановление ничего не выделяет, поэтому профилировщик GC видит только аллокации самого тика
+    static final class Layout {
+        private final Enemy[] enemies;
+        private final double[] enemyX;
+        private final double[] enemyY;
+        private final Random random = new Random();
+
+        Layout(int enemyCount) {
+            random.setSeed(SEED);
+            enemies = scatteredEnemies(enemyCount, random).toArray(new Enemy[0]);
+            enemyX = new double[enemyCount];
+            enemyY = new double[enemyCount];
+            for (int i = 0; i < enemyCount; i++) {
+                enemyX[i] = enemies[i].getX();
+                enemyY[i] = enemies[i].getY();
+            }
+        }
+
+        void restore(World world, int bulletCount) {
+            world.reset();
+            List<Enemy> worldEnemies = world.getEnemies();
+            for (int i = 0; i < enemies.length; i++) {
+                enemies[i].respawn(enemyX[i], enemyY[i]);
+                worldEnemies.add(enemies[i]);
+            }
+            world.getWaveManager().setEnemiesAlive(enemies.length);
+            random.setSeed(SEED);
+            BulletPool pool = world.getBulletPool();
+            List<Bullet> bullets = world.getBullets();
+            for (int i = 0; i < bulletCount; i++) {
+                double x = random.nextDouble() * World.MAP_SIZE;
+                double y = random.nextDouble() * World.MAP_SIZE;
+                double angle = random.nextDouble() * 2 * Math.PI;
+                bullets.add(pool.acquire(x, y, x + Math.cos(angle), y + Math.sin(angle), 10, BenchmarkWorlds::frozenClock));
+            }
+        }
+    }
+
+    private static long frozenClock() {
+        return 0L;
+    }
+
+    static List<Enemy> scatteredEnemies(int count, Random random) {
+        List<Enemy> enemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double x = World.BORDER_PADDING + random.nextDouble() * (World.MAP_SIZE - 2 * World.BORDER_PADDING);
+            double y = World.BORDER_PADDING + random.nextDouble() * (World.MAP_SIZE - 2 * World.BORDER_PADDING);
+            switch (i % 3) {
+                case 0 -> enemies.add(new BasicEnemy(x, y));
+                case 1 -> enemies.add(new FastEnemy(x, y));
+                default -> enemies.add(new TankEnemy(x, y));
+            }
+        }
+        return enemies;
+    }
+}
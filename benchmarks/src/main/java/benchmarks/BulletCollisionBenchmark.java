@@ -0,0 +1,41 @@
+package benchmarks;
+
+import gui.GameMechanics.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = BenchmarkWorlds.TICKS_PER_BATCH)
+@Measurement(iterations = 30, batchSize = BenchmarkWorlds.TICKS_PER_BATCH)
+@OperationsPerInvocation(BenchmarkWorlds.TICKS_PER_BATCH)
+@Fork(1)
+public class BulletCollisionBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int enemyCount;
+
+    @Param({"100", "1000", "10000"})
+    public int bulletCount;
+
+    private World world;
+    private BenchmarkWorlds.Layout layout;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        world = BenchmarkWorlds.newWorld();
+        layout = new BenchmarkWorlds.Layout(enemyCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void refill() {
+        layout.restore(world, bulletCount);
+    }
+
+    @Benchmark
+    public World updateBullets() {
+        world.updateBullets();
+        return world;
+    }
+}
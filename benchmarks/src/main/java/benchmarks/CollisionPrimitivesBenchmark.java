@@ -0,0 +1,75 @@
+package benchmarks;
+
+import gui.Enemies.BasicEnemy;
+import gui.Enemies.Enemy;
+import gui.GameMechanics.Bullet;
+import gui.GameMechanics.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Отдельные проверки занимают наносекунды, поэтому меряются средним временем на непрерывном потоке вызовов,
+// а не одиночным запуском пачки тиков, как в бенчмарках мира
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionPrimitivesBenchmark {
+
+    // Пуля уже сделала шаг, поэтому проверяется пересечение отрезка prev -> текущая позиция с рамкой врага
+    @State(Scope.Thread)
+    public static class BulletState {
+        Bullet bullet;
+        Enemy onPath;
+        Enemy offPath;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            bullet = new Bullet(100, 100, 200, 200, 10, () -> 0L);
+            bullet.update();
+            onPath = new BasicEnemy(104, 104);
+            offPath = new BasicEnemy(104, 160);
+        }
+    }
+
+    // Один враг делает шаг к центру карты, проверяя расталкивание со всей толпой;
+    // перед каждым шагом он возвращается на место, чтобы не скатиться в центр за время итерации
+    @State(Scope.Thread)
+    public static class CrowdState {
+        @Param({"100", "1000", "10000"})
+        public int enemyCount;
+
+        List<Enemy> enemies;
+        Enemy probe;
+        double startX;
+        double startY;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            enemies = BenchmarkWorlds.scatteredEnemies(enemyCount, new Random(BenchmarkWorlds.SEED));
+            probe = enemies.get(0);
+            startX = probe.getX();
+            startY = probe.getY();
+        }
+    }
+
+    @Benchmark
+    public boolean bulletHitsEnemy(BulletState state) {
+        return state.bullet.checkCollision(state.onPath);
+    }
+
+    @Benchmark
+    public boolean bulletMissesEnemy(BulletState state) {
+        return state.bullet.checkCollision(state.offPath);
+    }
+
+    @Benchmark
+    public Enemy enemyMoveAgainstAll(CrowdState state) {
+        state.probe.respawn(state.startX, state.startY);
+        state.probe.move(World.MAP_SIZE / 2.0, World.MAP_SIZE / 2.0, state.enemies);
+        return state.probe;
+    }
+}
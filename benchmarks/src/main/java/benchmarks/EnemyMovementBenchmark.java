@@ -0,0 +1,41 @@
+package benchmarks;
+
+import gui.GameMechanics.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Каждая итерация начинает с одной и той же расстановки вокруг игрока в центре карты и делает
+// фиксированное число тиков, поэтому замеряется движение при одном распределении, а не скучивание у цели.
+// В режиме SingleShotTime JMH делит время пачки на OperationsPerInvocation, так что результат - на один тик.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = BenchmarkWorlds.TICKS_PER_BATCH)
+@Measurement(iterations = 30, batchSize = BenchmarkWorlds.TICKS_PER_BATCH)
+@OperationsPerInvocation(BenchmarkWorlds.TICKS_PER_BATCH)
+@Fork(1)
+public class EnemyMovementBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int enemyCount;
+
+    private World world;
+    private BenchmarkWorlds.Layout layout;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        world = BenchmarkWorlds.newWorld();
+        layout = new BenchmarkWorlds.Layout(enemyCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void placeEnemies() {
+        layout.restore(world, 0);
+    }
+
+    @Benchmark
+    public World moveEnemies() {
+        world.moveEnemies();
+        return world;
+    }
+}
@@ -0,0 +1,44 @@
+package benchmarks;
+
+import gui.Enemies.Enemy;
+import gui.GameMechanics.World;
+import gui.WaveManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaveSpawnBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int enemyCount;
+
+    @Param({"20"})
+    public int wave;
+
+    private WaveManager waveManager;
+    private List<Enemy> existingEnemies;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random(BenchmarkWorlds.SEED);
+        waveManager = new WaveManager(() -> 0L, random);
+        existingEnemies = BenchmarkWorlds.scatteredEnemies(enemyCount, random);
+    }
+
+    // Подготовка волны - несколько присваиваний полей, её стоимость теряется на фоне расстановки
+    @Benchmark
+    public List<Enemy> spawnEnemies() {
+        waveManager.reset();
+        for (int i = 0; i < wave; i++) {
+            waveManager.startNextWave();
+        }
+        return waveManager.spawnEnemies(World.MAP_SIZE / 2.0, World.MAP_SIZE / 2.0, World.MAP_SIZE, existingEnemies);
+    }
+}
@@ -125,7 +125,7 @@ public class ApplicationMenuBar {
             SwingUtilities.updateComponentTreeUI(mainFrame);
         } catch (ClassNotFoundException | InstantiationException
                  | IllegalAccessException | UnsupportedLookAndFeelException e) {
-            Logger.error("Error setting look and feel: " + e.getMessage());
+            Logger.error("Error setting look and feel: {}", e.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -1,25 +1,23 @@
 package gui.Enemies;
+import gui.GameMechanics.Collisions;
+
 import java.awt.*;
 import java.util.List;
 public abstract class Enemy {
+    static final double PUSH_FORCE = 0.5;
+    protected final EnemyType type;
     protected double x;
     protected double y;
-    protected final int size;
-    protected final double speed;
-    protected final Color color;
-    protected final int collisionRadius;
-    protected double pushForce = 0.5;
     protected int health;
-    public Enemy(double x, double y, int size, double speed, Color color, int collisionRadius, int health) {
+    protected Enemy(double x, double y, EnemyType type) {
         this.x = x;
         this.y = y;
-        this.size = size;
-        this.speed = speed;
-        this.color = color;
-        this.collisionRadius = collisionRadius;
-        this.health = health;
+        this.type = type;
+        this.health = type.getHealth();
     }
     public void move(double targetX, double targetY, List<Enemy> allEnemies) {
+        double speed = type.getSpeed();
+        int collisionRadius = type.getCollisionRadius();
         double dx = targetX - x;
         double dy = targetY - y;
         double distance = Math.sqrt(dx * dx + dy * dy);
@@ -29,24 +27,21 @@ public abstract class Enemy {
         }
         double newX = x + dx;
         double newY = y + dy;
-        Rectangle futureBounds = new Rectangle(
-                (int)(newX - (double) collisionRadius / 2),
-                (int)(newY - (double) collisionRadius / 2),
-                collisionRadius,
-                collisionRadius
-        );
-        for (Enemy other : allEnemies) {
-            if (other != this && futureBounds.intersects(other.getCollisionBounds())) {
+        double halfRadius = collisionRadius / 2.0;
+        for (int i = 0; i < allEnemies.size(); i++) {
+            Enemy other = allEnemies.get(i);
+            if (other != this && Collisions.centeredBoxesOverlap(newX, newY, halfRadius,
+                    other.getX(), other.getY(), other.getCollisionRadius() / 2.0)) {
                 double collisionDx = x - other.getX();
                 double collisionDy = y - other.getY();
                 double collisionDist = Math.sqrt(collisionDx * collisionDx + collisionDy * collisionDy);
                 if (collisionDist > 0) {
                     collisionDx /= collisionDist;
                     collisionDy /= collisionDist;
-                    double penetration = (double) (collisionRadius + other.collisionRadius) / 2 - collisionDist;
-                    double massRatio = (double)size / (size + other.size);
-                    newX += collisionDx * penetration * massRatio * pushForce;
-                    newY += collisionDy * penetration * massRatio * pushForce;
+                    double penetration = (double) (collisionRadius + other.getCollisionRadius()) / 2 - collisionDist;
+                    double massRatio = (double) getSize() / (getSize() + other.getSize());
+                    newX += collisionDx * penetration * massRatio * PUSH_FORCE;
+                    newY += collisionDy * penetration * massRatio * PUSH_FORCE;
                 }
             }
         }
@@ -54,8 +49,9 @@ public abstract class Enemy {
         y = newY;
     }
     public void draw(Graphics2D g2d, double cameraOffsetX, double cameraOffsetY) {
-        int drawX = (int)(x - cameraOffsetX);
-        int drawY = (int)(y - cameraOffsetY);
+        drawAt(g2d, (int)(x - cameraOffsetX), (int)(y - cameraOffsetY), getSize(), getColor());
+    }
+    public static void drawAt(Graphics2D g2d, int drawX, int drawY, int size, Color color) {
         g2d.setColor(color);
         g2d.fillOval(drawX, drawY, size, size);
         g2d.setColor(Color.RED);
@@ -65,11 +61,12 @@ public abstract class Enemy {
         return new Rectangle(
                 (int)(x - cameraOffsetX),
                 (int)(y - cameraOffsetY),
-                size,
-                size
+                getSize(),
+                getSize()
         );
     }
     public Rectangle getCollisionBounds() {
+        int collisionRadius = type.getCollisionRadius();
         return new Rectangle(
                 (int)(x - (double) collisionRadius / 2),
                 (int)(y - (double) collisionRadius / 2),
@@ -83,14 +80,25 @@ public abstract class Enemy {
     public boolean isAlive() {
         return health > 0;
     }
+    void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+    // Возвращает врага в исходное состояние на новом месте - для повторного использования без аллокаций
+    public void respawn(double x, double y) {
+        setPosition(x, y);
+        this.health = type.getHealth();
+    }
 
-    public abstract int getXpReward();
-    public abstract int getDamage();
-    public abstract int getCoinReward();
+    public int getXpReward() { return type.getXpReward(); }
+    public int getDamage() { return type.getDamage(); }
+    public int getCoinReward() { return type.getCoinReward(); }
 
+    public EnemyType getType() { return type; }
     public double getX() { return x; }
     public double getY() { return y; }
-    public int getSize() { return size; }
-    public Color getColor() { return color; }
+    public int getSize() { return type.getSize(); }
+    public int getCollisionRadius() { return type.getCollisionRadius(); }
+    public Color getColor() { return type.getColor(); }
     public int getHealth() { return health; }
-}
\ No newline at end of file
+}
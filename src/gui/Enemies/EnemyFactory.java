@@ -0,0 +1,126 @@
+package gui.Enemies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Реестр фабрик врагов для волн: конструктор, стоимость в очках волны и вес при случайном выборе
+public final class EnemyFactory {
+    @FunctionalInterface
+    public interface Constructor {
+        Enemy create(double x, double y);
+    }
+
+    private static final List<EnemyFactory> FACTORIES = new CopyOnWriteArrayList<>();
+    private static volatile CostTable costTable;
+
+    public static final EnemyFactory BASIC = register(EnemyType.BASIC, BasicEnemy::new, 10, 1);
+    public static final EnemyFactory FAST = register(EnemyType.FAST, FastEnemy::new, 15, 1);
+    public static final EnemyFactory TANK = register(EnemyType.TANK, TankEnemy::new, 20, 1);
+
+    private final EnemyType type;
+    private final Constructor constructor;
+    private final int cost;
+    private final int weight;
+
+    public EnemyFactory(EnemyType type, Constructor constructor, int cost, int weight) {
+        if (cost <= 0) {
+            throw new IllegalArgumentException("Enemy cost must be positive: " + cost);
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Enemy spawn weight must be positive: " + weight);
+        }
+        this.type = type;
+        this.constructor = constructor;
+        this.cost = cost;
+        this.weight = weight;
+    }
+
+    public static EnemyFactory register(EnemyType type, Constructor constructor, int cost, int weight) {
+        return register(new EnemyFactory(type, constructor, cost, weight));
+    }
+
+    public static EnemyFactory register(EnemyFactory factory) {
+        synchronized (FACTORIES) {
+            FACTORIES.add(factory);
+            costTable = null;
+        }
+        return factory;
+    }
+
+    public static List<EnemyFactory> all() {
+        return new ArrayList<>(FACTORIES);
+    }
+
+    // Таблица собирается один раз и пересобирается только после регистрации нового типа
+    public static CostTable costTable() {
+        CostTable table = costTable;
+        if (table == null) {
+            synchronized (FACTORIES) {
+                table = costTable;
+                if (table == null) {
+                    table = new CostTable(FACTORIES);
+                    costTable = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    public Enemy create(double x, double y) {
+        return constructor.create(x, y);
+    }
+
+    public EnemyType getType() { return type; }
+    public int getCost() { return cost; }
+    public int getWeight() { return weight; }
+
+    // Фабрики отсортированы по стоимости, поэтому доступные по бюджету - всегда префикс,
+    // а накопленные веса позволяют выбрать из него одним вызовом nextInt
+    public static final class CostTable {
+        private final EnemyFactory[] factories;
+        private final int[] costs;
+        private final int[] cumulativeWeights;
+
+        public CostTable(List<EnemyFactory> source) {
+            factories = source.toArray(new EnemyFactory[0]);
+            Arrays.sort(factories, Comparator.comparingInt(EnemyFactory::getCost));
+            costs = new int[factories.length];
+            cumulativeWeights = new int[factories.length];
+            int total = 0;
+            for (int i = 0; i < factories.length; i++) {
+                costs[i] = factories[i].cost;
+                total += factories[i].weight;
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        public EnemyFactory pick(int points, Random random) {
+            int affordable = affordableCount(points);
+            if (affordable == 0) return null;
+            int roll = random.nextInt(cumulativeWeights[affordable - 1]);
+            // Веса положительны, суммы строго растут: ищем первую сумму больше roll
+            int index = Arrays.binarySearch(cumulativeWeights, 0, affordable, roll + 1);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return factories[index];
+        }
+
+        public int affordableCount(int points) {
+            int index = Arrays.binarySearch(costs, points);
+            if (index < 0) return -index - 1;
+            while (index + 1 < costs.length && costs[index + 1] == points) {
+                index++;
+            }
+            return index + 1;
+        }
+
+        public int size() {
+            return factories.length;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package gui.Enemies;
+
+import gui.GameMechanics.Collisions;
+import gui.GameMechanics.SpatialGrid;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class EnemyStore {
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+    private static final int MOVE_BATCH_SIZE = 256;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private double[] x = new double[64];
+    private double[] y = new double[64];
+    private double[] nextX = new double[64];
+    private double[] nextY = new double[64];
+    private int[] health = new int[64];
+    private int[] typeId = new int[64];
+    private int[] collisionRadius = new int[64];
+    private int count = 0;
+    private int maxCollisionRadius = 0;
+
+    public EnemyStore() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public EnemyStore(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public void load(List<? extends Enemy> enemies) {
+        ensureCapacity(enemies.size());
+        count = enemies.size();
+        maxCollisionRadius = 0;
+        for (int i = 0; i < count; i++) {
+            set(i, enemies.get(i));
+        }
+    }
+
+    private void set(int i, Enemy enemy) {
+        x[i] = enemy.getX();
+        y[i] = enemy.getY();
+        health[i] = enemy.getHealth();
+        typeId[i] = enemy.getType().getId();
+        collisionRadius[i] = enemy.getCollisionRadius();
+        maxCollisionRadius = Math.max(maxCollisionRadius, collisionRadius[i]);
+    }
+
+    public void append(List<? extends Enemy> enemies) {
+        ensureCapacity(count + enemies.size());
+        for (int i = 0; i < enemies.size(); i++) {
+            set(count++, enemies.get(i));
+        }
+    }
+
+    // Убирает записи с нулевым здоровьем, сохраняя порядок - так же, как removeIf по списку врагов
+    public void removeDead() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (health[i] > 0) {
+                if (kept != i) {
+                    x[kept] = x[i];
+                    y[kept] = y[i];
+                    health[kept] = health[i];
+                    typeId[kept] = typeId[i];
+                    collisionRadius[kept] = collisionRadius[i];
+                }
+                kept++;
+            }
+        }
+        count = kept;
+    }
+
+    public void removeAt(int index) {
+        int tail = count - index - 1;
+        System.arraycopy(x, index + 1, x, index, tail);
+        System.arraycopy(y, index + 1, y, index, tail);
+        System.arraycopy(health, index + 1, health, index, tail);
+        System.arraycopy(typeId, index + 1, typeId, index, tail);
+        System.arraycopy(collisionRadius, index + 1, collisionRadius, index, tail);
+        count--;
+    }
+
+    public void storePositions(List<? extends Enemy> enemies) {
+        for (int i = 0; i < count; i++) {
+            enemies.get(i).setPosition(x[i], y[i]);
+        }
+    }
+
+    public void fillGrid(SpatialGrid grid) {
+        grid.clear();
+        for (int i = 0; i < count; i++) {
+            grid.insert(i, x[i], y[i], collisionRadius[i]);
+        }
+    }
+
+    public void moveAll(double targetX, double targetY, SpatialGrid grid) {
+        if (count >= parallelThreshold) {
+            pool.invoke(new MoveTask(0, count, targetX, targetY, grid));
+        } else {
+            moveRange(0, count, targetX, targetY, grid);
+        }
+        double[] swap = x;
+        x = nextX;
+        nextX = swap;
+        swap = y;
+        y = nextY;
+        nextY = swap;
+    }
+
+    private void moveRange(int from, int to, double targetX, double targetY, SpatialGrid grid) {
+        for (int i = from; i < to; i++) {
+            move(i, targetX, targetY, grid);
+        }
+    }
+
+    private class MoveTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final double targetX;
+        private final double targetY;
+        private final SpatialGrid grid;
+
+        MoveTask(int from, int to, double targetX, double targetY, SpatialGrid grid) {
+            this.from = from;
+            this.to = to;
+            this.targetX = targetX;
+            this.targetY = targetY;
+            this.grid = grid;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MOVE_BATCH_SIZE) {
+                moveRange(from, to, targetX, targetY, grid);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MoveTask(from, middle, targetX, targetY, grid),
+                    new MoveTask(middle, to, targetX, targetY, grid));
+        }
+    }
+
+    private void move(int i, double targetX, double targetY, SpatialGrid grid) {
+        EnemyType type = EnemyType.byId(typeId[i]);
+        double speed = type.getSpeed();
+        double dx = targetX - x[i];
+        double dy = targetY - y[i];
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        if (distance > 0) {
+            dx = dx / distance * speed;
+            dy = dy / distance * speed;
+        }
+        double newX = x[i] + dx;
+        double newY = y[i] + dy;
+        double halfRadius = collisionRadius[i] / 2.0;
+        // Пересечься с новой позицией может только сосед ближе суммы полуразмеров плюс шаг
+        double reach = halfRadius + grid.getMaxCollisionRadius() / 2.0 + speed;
+        int fromX = grid.cellCoord(x[i] - reach);
+        int toX = grid.cellCoord(x[i] + reach);
+        int fromY = grid.cellCoord(y[i] - reach);
+        int toY = grid.cellCoord(y[i] + reach);
+        for (int cellY = fromY; cellY <= toY; cellY++) {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                for (int j = grid.first(cellX, cellY); j != SpatialGrid.EMPTY; j = grid.next(j)) {
+                    if (j == i) continue;
+                    double otherHalf = collisionRadius[j] / 2.0;
+                    if (!Collisions.centeredBoxesOverlap(newX, newY, halfRadius, x[j], y[j], otherHalf)) continue;
+                    double collisionDx = x[i] - x[j];
+                    double collisionDy = y[i] - y[j];
+                    double collisionDist = Math.sqrt(collisionDx * collisionDx + collisionDy * collisionDy);
+                    if (collisionDist > 0) {
+                        collisionDx /= collisionDist;
+                        collisionDy /= collisionDist;
+                        double penetration = halfRadius + otherHalf - collisionDist;
+                        int otherSize = EnemyType.byId(typeId[j]).getSize();
+                        double massRatio = (double) type.getSize() / (type.getSize() + otherSize);
+                        newX += collisionDx * penetration * massRatio * Enemy.PUSH_FORCE;
+                        newY += collisionDy * penetration * massRatio * Enemy.PUSH_FORCE;
+                    }
+                }
+            }
+        }
+        nextX[i] = newX;
+        nextY[i] = newY;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= x.length) return;
+        int newLength = Math.max(capacity, x.length * 2);
+        x = Arrays.copyOf(x, newLength);
+        y = Arrays.copyOf(y, newLength);
+        nextX = new double[newLength];
+        nextY = new double[newLength];
+        health = Arrays.copyOf(health, newLength);
+        typeId = Arrays.copyOf(typeId, newLength);
+        collisionRadius = Arrays.copyOf(collisionRadius, newLength);
+    }
+
+    public int getCount() { return count; }
+    public double getX(int index) { return x[index]; }
+    public double getY(int index) { return y[index]; }
+    public int getHealth(int index) { return health[index]; }
+    public void setHealth(int index, int value) { health[index] = value; }
+    public int getTypeId(int index) { return typeId[index]; }
+    public int getCollisionRadius(int index) { return collisionRadius[index]; }
+    public int getMaxCollisionRadius() { return maxCollisionRadius; }
+}
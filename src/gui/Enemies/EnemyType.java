@@ -0,0 +1,82 @@
+package gui.Enemies;
+
+import java.awt.Color;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class EnemyType {
+    private static final List<EnemyType> TYPES = new CopyOnWriteArrayList<>();
+    // Максимум обновляется при регистрации, чтобы тик не обходил список типов
+    private static volatile int maxSize;
+    public static final EnemyType BASIC = register("basic", 30, 3, 0x000000, 30, 20, 20, 20, 2);
+    public static final EnemyType FAST = register("fast", 25, 4.0, 0x0000FF, 25, 10, 10, 10, 1);
+    public static final EnemyType TANK = register("tank", 40, 2.0, 0x00FF00, 40, 50, 50, 40, 3);
+
+    private final int id;
+    private final String name;
+    private final int size;
+    private final double speed;
+    private final int rgb;
+    private final int collisionRadius;
+    private final int health;
+    private final int xpReward;
+    private final int damage;
+    private final int coinReward;
+    private Color color;
+
+    private EnemyType(int id, String name, int size, double speed, int rgb, int collisionRadius,
+                      int health, int xpReward, int damage, int coinReward) {
+        this.id = id;
+        this.name = name;
+        this.size = size;
+        this.speed = speed;
+        this.rgb = rgb;
+        this.collisionRadius = collisionRadius;
+        this.health = health;
+        this.xpReward = xpReward;
+        this.damage = damage;
+        this.coinReward = coinReward;
+    }
+
+    // Единственный способ добавить тип: id выдаётся по порядку регистрации и навсегда остаётся в таблице
+    public static EnemyType register(String name, int size, double speed, int rgb, int collisionRadius,
+                                     int health, int xpReward, int damage, int coinReward) {
+        synchronized (TYPES) {
+            EnemyType type = new EnemyType(TYPES.size(), name, size, speed, rgb, collisionRadius,
+                    health, xpReward, damage, coinReward);
+            TYPES.add(type);
+            maxSize = Math.max(maxSize, size);
+            return type;
+        }
+    }
+
+    public static EnemyType byId(int id) {
+        return TYPES.get(id);
+    }
+
+    public static int count() {
+        return TYPES.size();
+    }
+
+    public static int maxSize() {
+        return maxSize;
+    }
+
+    public Color getColor() {
+        if (color == null) {
+            color = new Color(rgb);
+        }
+        return color;
+    }
+
+    public int getId() { return id; }
+    public String getName() { return name; }
+    public int getSize() { return size; }
+    public double getSpeed() { return speed; }
+    public int getRgb() { return rgb; }
+    public int getCollisionRadius() { return collisionRadius; }
+    public int getHealth() { return health; }
+    public int getXpReward() { return xpReward; }
+    public int getDamage() { return damage; }
+    public int getCoinReward() { return coinReward; }
+}
@@ -0,0 +1,53 @@
+package gui.GameMechanics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Достижения отсортированы по порогу убийств: на каждое убийство проверяется
+// только следующий порог, бонус урона пересчитывается лишь при его пересечении
+public class AchievementTracker {
+    public static final int NO_THRESHOLD = Integer.MAX_VALUE;
+    private final List<Achievement> byThreshold;
+    private int nextIndex;
+    private int damageBonus;
+
+    public AchievementTracker(List<Achievement> achievements) {
+        this.byThreshold = achievements == null ? new ArrayList<>() : new ArrayList<>(achievements);
+        byThreshold.sort(Comparator.comparingInt(Achievement::getTargetKills));
+    }
+
+    // Полный проход - только когда достижения могли измениться снаружи (сброс профиля, загрузка)
+    public void resync(int kills) {
+        nextIndex = 0;
+        damageBonus = 0;
+        for (Achievement achievement : byThreshold) {
+            if (achievement.isUnlocked()) {
+                damageBonus += achievement.getDamageBonus();
+            }
+        }
+        onKillCountChanged(kills);
+    }
+
+    public boolean onKillCountChanged(int kills) {
+        boolean changed = false;
+        while (nextIndex < byThreshold.size() && byThreshold.get(nextIndex).getTargetKills() <= kills) {
+            Achievement achievement = byThreshold.get(nextIndex);
+            if (!achievement.isUnlocked()) {
+                achievement.updateStatus(kills);
+                damageBonus += achievement.getDamageBonus();
+                changed = true;
+            }
+            nextIndex++;
+        }
+        return changed;
+    }
+
+    public int getDamageBonus() {
+        return damageBonus;
+    }
+
+    public int getNextThreshold() {
+        return nextIndex < byThreshold.size() ? byThreshold.get(nextIndex).getTargetKills() : NO_THRESHOLD;
+    }
+}
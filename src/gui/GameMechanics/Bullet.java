@@ -1,34 +1,39 @@
 package gui.GameMechanics;
 
 import java.awt.*;
-import java.util.function.Supplier;
+import java.util.function.LongSupplier;
 
 public class Bullet {
     private double x;
     private double y;
     private double prevX;
     private double prevY;
-    private final double vx;
-    private final double vy;
-    private final int size = 12;
-    private final int damage;
-    private boolean isActive = true;
-    private final long creationTime;
+    private double vx;
+    private double vy;
+    public static final int SIZE = 12;
+    private int damage;
+    private boolean isActive;
+    private long creationTime;
     protected static final long LIFETIME = 5000;
-    private final Supplier<Long> timeSupplier;
+    private LongSupplier timeSupplier;
 
     public Bullet(double startX, double startY, double targetX, double targetY, int bulletDamage) {
         this(startX, startY, targetX, targetY, bulletDamage, System::currentTimeMillis);
     }
 
-    public Bullet(double startX, double startY, double targetX, double targetY, int bulletDamage, Supplier<Long> timeSupplier) {
+    public Bullet(double startX, double startY, double targetX, double targetY, int bulletDamage, LongSupplier timeSupplier) {
+        reset(startX, startY, targetX, targetY, bulletDamage, timeSupplier);
+    }
+
+    void reset(double startX, double startY, double targetX, double targetY, int bulletDamage, LongSupplier timeSupplier) {
         this.x = startX;
         this.y = startY;
         this.prevX = startX;
         this.prevY = startY;
-        this.creationTime = timeSupplier.get();
+        this.creationTime = timeSupplier.getAsLong();
         this.damage = bulletDamage;
         this.timeSupplier = timeSupplier;
+        this.isActive = true;
         double dx = targetX - startX;
         double dy = targetY - startY;
         double distance = Math.sqrt(dx * dx + dy * dy);
@@ -44,7 +49,7 @@ public class Bullet {
 
     public void update() {
         if (isActive) {
-            if (timeSupplier.get() - creationTime >= LIFETIME) {
+            if (timeSupplier.getAsLong() - creationTime >= LIFETIME) {
                 isActive = false;
                 return;
             }
@@ -57,31 +62,26 @@ public class Bullet {
 
     public void draw(Graphics2D g2d, double cameraOffsetX, double cameraOffsetY) {
         if (isActive) {
-            int drawX = (int)(x - cameraOffsetX);
-            int drawY = (int)(y - cameraOffsetY);
-            g2d.setColor(Color.YELLOW);
-            g2d.fillOval(drawX, drawY, size, size);
+            drawAt(g2d, (int)(x - cameraOffsetX), (int)(y - cameraOffsetY));
         }
     }
 
-    public boolean checkCollision(gui.Enemies.Enemy enemy) {
-        if (!isActive) return false;
+    public static void drawAt(Graphics2D g2d, int drawX, int drawY) {
+        g2d.setColor(Color.YELLOW);
+        g2d.fillOval(drawX, drawY, SIZE, SIZE);
+    }
 
-        Rectangle enemyBounds = enemy.getCollisionBounds();
-        int steps = 5;
-        double stepX = (x - prevX) / steps;
-        double stepY = (y - prevY) / steps;
+    public boolean checkCollision(gui.Enemies.Enemy enemy) {
+        return checkCollision(enemy.getX(), enemy.getY(), enemy.getCollisionRadius());
+    }
 
-        for (int i = 0; i <= steps; i++) {
-            double checkX = prevX + stepX * i;
-            double checkY = prevY + stepY * i;
-            Rectangle bulletBounds = new Rectangle((int)checkX, (int)checkY, size, size);
-            if (bulletBounds.intersects(enemyBounds)) {
-                return true;
-            }
-        }
+    public boolean checkCollision(double enemyX, double enemyY, int collisionRadius) {
+        if (!isActive) return false;
 
-        return false;
+        double halfRadius = collisionRadius / 2.0;
+        return Collisions.segmentIntersectsBox(prevX, prevY, x, y,
+                enemyX - halfRadius - SIZE, enemyY - halfRadius - SIZE,
+                enemyX + halfRadius, enemyY + halfRadius);
     }
 
     public int getDamage() { return damage; }
@@ -89,4 +89,6 @@ public class Bullet {
     public void deactivate() { isActive = false; }
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getPrevX() { return prevX; }
+    public double getPrevY() { return prevY; }
 }
\ No newline at end of file
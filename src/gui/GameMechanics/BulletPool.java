@@ -0,0 +1,32 @@
+package gui.GameMechanics;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+public class BulletPool {
+    private Bullet[] free = new Bullet[64];
+    private int freeCount = 0;
+
+    public Bullet acquire(double startX, double startY, double targetX, double targetY, int damage,
+                          LongSupplier timeSupplier) {
+        if (freeCount == 0) {
+            return new Bullet(startX, startY, targetX, targetY, damage, timeSupplier);
+        }
+        Bullet bullet = free[--freeCount];
+        free[freeCount] = null;
+        bullet.reset(startX, startY, targetX, targetY, damage, timeSupplier);
+        return bullet;
+    }
+
+    public void release(Bullet bullet) {
+        bullet.deactivate();
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, free.length * 2);
+        }
+        free[freeCount++] = bullet;
+    }
+
+    public int getFreeCount() {
+        return freeCount;
+    }
+}
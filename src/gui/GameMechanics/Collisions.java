@@ -0,0 +1,47 @@
+package gui.GameMechanics;
+
+public final class Collisions {
+    private Collisions() {
+    }
+
+    public static boolean segmentIntersectsBox(double startX, double startY, double endX, double endY,
+                                               double minX, double minY, double maxX, double maxY) {
+        double dx = endX - startX;
+        double dy = endY - startY;
+        double tMin = 0;
+        double tMax = 1;
+
+        if (dx == 0) {
+            if (startX <= minX || startX >= maxX) return false;
+        } else {
+            double t1 = (minX - startX) / dx;
+            double t2 = (maxX - startX) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return false;
+        }
+
+        if (dy == 0) {
+            return startY > minY && startY < maxY;
+        }
+        double t1 = (minY - startY) / dy;
+        double t2 = (maxY - startY) / dy;
+        tMin = Math.max(tMin, Math.min(t1, t2));
+        tMax = Math.min(tMax, Math.max(t1, t2));
+        return tMin <= tMax;
+    }
+
+    public static boolean centeredBoxesOverlap(double ax, double ay, double aHalf,
+                                               double bx, double by, double bHalf) {
+        double reach = aHalf + bHalf;
+        return Math.abs(ax - bx) < reach && Math.abs(ay - by) < reach;
+    }
+
+    public static boolean circlesOverlap(double ax, double ay, double aRadius,
+                                         double bx, double by, double bRadius) {
+        double dx = ax - bx;
+        double dy = ay - by;
+        double reach = aRadius + bRadius;
+        return dx * dx + dy * dy < reach * reach;
+    }
+}
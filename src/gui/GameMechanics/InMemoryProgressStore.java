@@ -0,0 +1,18 @@
+package gui.GameMechanics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class InMemoryProgressStore implements ProgressStore {
+    private final Map<String, Integer> values = new HashMap<>();
+
+    @Override
+    public int load(String key, int defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public void save(String key, int value) {
+        values.put(key, value);
+    }
+}
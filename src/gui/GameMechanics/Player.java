@@ -1,15 +1,15 @@
 package gui.GameMechanics;
 
-import gui.Visuals.GameVisualizer;
-
 import java.awt.*;
 import java.util.*;
 import java.util.List;
-import java.util.prefs.Preferences;
+import java.util.function.LongSupplier;
 
 public class Player {
     public static final int SIZE = 30;
+    private static final long NEVER_SHOT = Long.MIN_VALUE / 2;
     private static double speed = 5.0;
+    private double moveSpeed = 5.0;
     private long fireRate = 150;
     private int bulletDamage = 10;
     private int levelUpDamageBonus = 0;
@@ -26,16 +26,28 @@ public class Player {
     private int xp = 0;
     private int xpToNextLevel = 100;
     private final Shop shop;
-    private final List<Achievement> achievements;
+    private final AchievementTracker achievementTracker;
+    private final ProgressStore progress;
+    private final LongSupplier clock;
+    private final Random random;
 
     public Player(double startX, double startY, List<Achievement> achievements) {
+        this(startX, startY, achievements, new PreferencesProgressStore(), System::currentTimeMillis, new Random());
+    }
+
+    public Player(double startX, double startY, List<Achievement> achievements,
+                  ProgressStore progress, LongSupplier clock, Random random) {
         this.x = startX;
         this.y = startY;
-        this.lastShotTime = 0;
+        this.lastShotTime = NEVER_SHOT;
+        this.progress = progress;
+        this.clock = clock;
+        this.random = random;
         this.coins = loadCoins();
         this.enemiesKilled = loadEnemiesKilled();
         this.shop = new Shop(this);
-        this.achievements = achievements;
+        this.achievementTracker = new AchievementTracker(achievements);
+        achievementTracker.resync(enemiesKilled);
         updateBulletDamage();
         updateSpeed();
         updateFireRate();
@@ -47,19 +59,32 @@ public class Player {
             dx *= normFactor;
             dy *= normFactor;
         }
-        x = Math.max(GameVisualizer.BORDER_PADDING, Math.min(x + dx, mapSize - SIZE - GameVisualizer.BORDER_PADDING));
-        y = Math.max(GameVisualizer.BORDER_PADDING, Math.min(y + dy, mapSize - SIZE - GameVisualizer.BORDER_PADDING));
+        x = Math.max(World.BORDER_PADDING, Math.min(x + dx, mapSize - SIZE - World.BORDER_PADDING));
+        y = Math.max(World.BORDER_PADDING, Math.min(y + dy, mapSize - SIZE - World.BORDER_PADDING));
+    }
+
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
     }
 
     public List<Bullet> shoot(double mouseX, double mouseY) {
-        List<Bullet> newBullets = new ArrayList<>();
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastShotTime >= fireRate) {
-            Bullet bullet = new Bullet(x + SIZE / 2.0, y + SIZE / 2.0, mouseX, mouseY, bulletDamage);
-            newBullets.add(bullet);
-            lastShotTime = currentTime;
+        Bullet bullet = shoot(mouseX, mouseY, null);
+        return bullet == null ? Collections.emptyList() : Collections.singletonList(bullet);
+    }
+
+    public Bullet shoot(double mouseX, double mouseY, BulletPool pool) {
+        long currentTime = clock.getAsLong();
+        if (currentTime - lastShotTime < fireRate) {
+            return null;
         }
-        return newBullets;
+        lastShotTime = currentTime;
+        double startX = x + SIZE / 2.0;
+        double startY = y + SIZE / 2.0;
+        if (pool == null) {
+            return new Bullet(startX, startY, mouseX, mouseY, bulletDamage, clock);
+        }
+        return pool.acquire(startX, startY, mouseX, mouseY, bulletDamage, clock);
     }
 
     public void addXp(int amount) {
@@ -77,7 +102,7 @@ public class Player {
 
     public List<UpgradeType> getUpgradeOptions() {
         List<UpgradeType> availableUpgrades = new ArrayList<>(Arrays.asList(UpgradeType.values()));
-        Collections.shuffle(availableUpgrades);
+        Collections.shuffle(availableUpgrades, random);
         return availableUpgrades.subList(0, Math.min(3, availableUpgrades.size()));
     }
 
@@ -162,12 +187,20 @@ public class Player {
     public void addEnemyKill() {
         enemiesKilled++;
         saveEnemiesKilled();
-        updateBulletDamage();
+        if (achievementTracker.onKillCountChanged(enemiesKilled)) {
+            updateBulletDamage();
+        }
     }
 
     public void setEnemiesKilled(int amount) {
         enemiesKilled = Math.max(0, amount);
         saveEnemiesKilled();
+        resyncAchievements(); // The count may have gone down, so thresholds are walked again
+    }
+
+    // Achievements may have been reset or restored externally
+    public void resyncAchievements() {
+        achievementTracker.resync(enemiesKilled);
         updateBulletDamage();
     }
 
@@ -180,48 +213,32 @@ public class Player {
     }
 
     public void saveCoins() {
-        Preferences prefs = Preferences.userNodeForPackage(Player.class);
-        prefs.putInt("playerCoins", coins);
+        progress.save("playerCoins", coins);
     }
 
     private int loadCoins() {
-        Preferences prefs = Preferences.userNodeForPackage(Player.class);
-        return prefs.getInt("playerCoins", 0);
+        return progress.load("playerCoins", 0);
     }
 
     public void saveEnemiesKilled() {
-        Preferences prefs = Preferences.userNodeForPackage(Player.class);
-        prefs.putInt("enemiesKilled", enemiesKilled);
+        progress.save("enemiesKilled", enemiesKilled);
     }
 
     private int loadEnemiesKilled() {
-        Preferences prefs = Preferences.userNodeForPackage(Player.class);
-        return prefs.getInt("enemiesKilled", 0);
+        return progress.load("enemiesKilled", 0);
     }
 
     private void updateSpeed() {
-        speed = 5.0 * Math.pow(1.03, shop.getShopUpgradeLevel(ShopUpgradeType.SPEED)) * levelUpSpeedMultiplier;
+        moveSpeed = 5.0 * Math.pow(1.03, shop.getShopUpgradeLevel(ShopUpgradeType.SPEED)) * levelUpSpeedMultiplier;
+        speed = moveSpeed;
     }
 
     private void updateFireRate() {
         fireRate = Math.max(100, 150 - (shop.getShopUpgradeLevel(ShopUpgradeType.FIRE_RATE) * 10L) - levelUpFireRateReduction);
     }
 
-    private int calculateAchievementDamageBonus() {
-        int bonus = 0;
-        if (achievements != null) {
-            for (Achievement achievement : achievements) {
-                achievement.updateStatus(enemiesKilled);
-                if (achievement.isUnlocked()) {
-                    bonus += achievement.getDamageBonus();
-                }
-            }
-        }
-        return bonus;
-    }
-
     private void updateBulletDamage() {
-        int achievementBonus = calculateAchievementDamageBonus();
+        int achievementBonus = achievementTracker.getDamageBonus();
         bulletDamage = 10 + shop.getShopUpgradeLevel(ShopUpgradeType.DAMAGE) + achievementBonus + levelUpDamageBonus;
     }
 
@@ -234,10 +251,10 @@ public class Player {
         levelUpDamageBonus = 0; // Reset level-up damage bonus
         levelUpSpeedMultiplier = 1.0; // Reset level-up speed multiplier
         levelUpFireRateReduction = 0; // Reset level-up fire rate reduction
-        updateBulletDamage(); // Recalculate with achievement bonuses
+        resyncAchievements(); // Recalculate with achievement bonuses
         updateSpeed(); // Recalculate with shop upgrades
         updateFireRate(); // Recalculate with shop upgrades
-        lastShotTime = 0;
+        lastShotTime = NEVER_SHOT;
     }
 
     public boolean isAlive() {
@@ -249,18 +266,23 @@ public class Player {
     public double getX() { return x; }
     public double getY() { return y; }
     public static double getSpeed() { return speed; }
+    public double getMoveSpeed() { return moveSpeed; }
     public int getLevel() { return level; }
     public int getXp() { return xp; }
     public int getXpToNextLevel() { return xpToNextLevel; }
     public int getBulletDamage() { return bulletDamage; }
 
+    public AchievementTracker getAchievementTracker() { return achievementTracker; }
+
     public Shop getShop() {
         return shop;
     }
 
     public void draw(Graphics2D g2d, double cameraOffsetX, double cameraOffsetY) {
-        int drawX = (int)(x - cameraOffsetX);
-        int drawY = (int)(y - cameraOffsetY);
+        drawAt(g2d, (int)(x - cameraOffsetX), (int)(y - cameraOffsetY));
+    }
+
+    public static void drawAt(Graphics2D g2d, int drawX, int drawY) {
         g2d.setColor(Color.RED);
         g2d.fillOval(drawX, drawY, SIZE, SIZE);
         g2d.setColor(Color.WHITE);
@@ -0,0 +1,29 @@
+package gui.GameMechanics;
+
+import log.Logger;
+
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+public class PreferencesProgressStore implements ProgressStore {
+    private final Preferences prefs = Preferences.userNodeForPackage(Player.class);
+
+    @Override
+    public int load(String key, int defaultValue) {
+        return prefs.getInt(key, defaultValue);
+    }
+
+    @Override
+    public void save(String key, int value) {
+        prefs.putInt(key, value);
+    }
+
+    @Override
+    public void flush() {
+        try {
+            prefs.flush();
+        } catch (BackingStoreException e) {
+            Logger.error("Error flushing preferences: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package gui.GameMechanics;
+
+public interface ProgressStore {
+    int load(String key, int defaultValue);
+
+    void save(String key, int value);
+
+    default void flush() {
+    }
+}
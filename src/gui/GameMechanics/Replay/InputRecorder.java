@@ -0,0 +1,60 @@
+package gui.GameMechanics.Replay;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class InputRecorder {
+    static final int AIM_CHANGED = 1 << 4;
+    static final int UPGRADE_CHOSEN = 1 << 5;
+    private final SessionHeader header;
+    private ByteBuffer frames = ByteBuffer.allocate(4096);
+    private int tickCount = 0;
+    private double lastAimX = Double.NaN;
+    private double lastAimY = Double.NaN;
+    private int pendingUpgrade = -1;
+
+    public InputRecorder(SessionHeader header) {
+        this.header = header;
+    }
+
+    public void recordUpgradeChoice(int index) {
+        pendingUpgrade = index;
+    }
+
+    public void recordTick(int moveX, int moveY, double aimX, double aimY) {
+        ensureRemaining(18);
+        int flags = (moveX + 1) | ((moveY + 1) << 2);
+        boolean aimChanged = Double.doubleToRawLongBits(aimX) != Double.doubleToRawLongBits(lastAimX)
+                || Double.doubleToRawLongBits(aimY) != Double.doubleToRawLongBits(lastAimY);
+        if (aimChanged) flags |= AIM_CHANGED;
+        if (pendingUpgrade >= 0) flags |= UPGRADE_CHOSEN;
+        frames.put((byte) flags);
+        if (aimChanged) {
+            frames.putDouble(aimX);
+            frames.putDouble(aimY);
+            lastAimX = aimX;
+            lastAimY = aimY;
+        }
+        if (pendingUpgrade >= 0) {
+            frames.put((byte) pendingUpgrade);
+            pendingUpgrade = -1;
+        }
+        tickCount++;
+    }
+
+    public SessionRecording finish() {
+        return new SessionRecording(header, tickCount, Arrays.copyOf(frames.array(), frames.position()));
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (frames.remaining() >= bytes) return;
+        ByteBuffer larger = ByteBuffer.allocate(frames.capacity() * 2);
+        frames.flip();
+        larger.put(frames);
+        frames = larger;
+    }
+}
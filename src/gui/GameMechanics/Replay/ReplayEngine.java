@@ -0,0 +1,44 @@
+package gui.GameMechanics.Replay;
+
+import gui.GameMechanics.World;
+
+import java.nio.ByteBuffer;
+
+public class ReplayEngine {
+    private final World world;
+    private final ByteBuffer frames;
+    private double aimX;
+    private double aimY;
+
+    public ReplayEngine(SessionRecording recording) {
+        this.world = recording.getHeader().createWorld();
+        this.frames = ByteBuffer.wrap(recording.getFrames());
+    }
+
+    public boolean step() {
+        if (!frames.hasRemaining()) return false;
+        int flags = frames.get();
+        if ((flags & InputRecorder.AIM_CHANGED) != 0) {
+            aimX = frames.getDouble();
+            aimY = frames.getDouble();
+        }
+        if ((flags & InputRecorder.UPGRADE_CHOSEN) != 0) {
+            world.chooseUpgrade(frames.get());
+        }
+        world.setMovement((flags & 3) - 1, ((flags >> 2) & 3) - 1);
+        world.setAim(aimX, aimY);
+        world.tick();
+        return true;
+    }
+
+    public World runToEnd() {
+        while (frames.hasRemaining()) {
+            step();
+        }
+        return world;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+}
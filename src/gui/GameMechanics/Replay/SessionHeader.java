@@ -0,0 +1,125 @@
+package gui.GameMechanics.Replay;
+
+import gui.GameMechanics.Achievement;
+import gui.GameMechanics.InMemoryProgressStore;
+import gui.GameMechanics.Player;
+import gui.GameMechanics.ShopUpgradeType;
+import gui.GameMechanics.World;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SessionHeader {
+    private final long seed;
+    private final double playerX;
+    private final double playerY;
+    private final int coins;
+    private final int enemiesKilled;
+    private final int[] shopLevels;
+    private final int[] achievementTargets;
+    private final int[] achievementBonuses;
+    private final boolean[] achievementUnlocked;
+
+    private SessionHeader(long seed, double playerX, double playerY, int coins, int enemiesKilled, int[] shopLevels,
+                          int[] achievementTargets, int[] achievementBonuses, boolean[] achievementUnlocked) {
+        this.seed = seed;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.coins = coins;
+        this.enemiesKilled = enemiesKilled;
+        this.shopLevels = shopLevels;
+        this.achievementTargets = achievementTargets;
+        this.achievementBonuses = achievementBonuses;
+        this.achievementUnlocked = achievementUnlocked;
+    }
+
+    public static SessionHeader capture(World world) {
+        Player player = world.getPlayer();
+        ShopUpgradeType[] types = ShopUpgradeType.values();
+        int[] shopLevels = new int[types.length];
+        for (int i = 0; i < types.length; i++) {
+            shopLevels[i] = player.getShopUpgradeLevel(types[i]);
+        }
+        List<Achievement> achievements = world.getAchievements();
+        int[] targets = new int[achievements.size()];
+        int[] bonuses = new int[achievements.size()];
+        boolean[] unlocked = new boolean[achievements.size()];
+        for (int i = 0; i < achievements.size(); i++) {
+            targets[i] = achievements.get(i).getTargetKills();
+            bonuses[i] = achievements.get(i).getDamageBonus();
+            unlocked[i] = achievements.get(i).isUnlocked();
+        }
+        return new SessionHeader(world.getSeed(), player.getX(), player.getY(), player.getCoins(),
+                player.getEnemiesKilled(), shopLevels, targets, bonuses, unlocked);
+    }
+
+    public World createWorld() {
+        List<Achievement> achievements = new ArrayList<>();
+        for (int i = 0; i < achievementTargets.length; i++) {
+            Achievement achievement = new Achievement("", "", achievementTargets[i], achievementBonuses[i]);
+            if (achievementUnlocked[i]) {
+                achievement.updateStatus(achievementTargets[i]);
+            }
+            achievements.add(achievement);
+        }
+        World world = new World(achievements, seed, new InMemoryProgressStore());
+        Player player = world.getPlayer();
+        player.setPosition(playerX, playerY);
+        player.addCoins(coins - player.getCoins());
+        player.setEnemiesKilled(enemiesKilled);
+        ShopUpgradeType[] types = ShopUpgradeType.values();
+        for (int i = 0; i < types.length; i++) {
+            for (int level = 0; level < shopLevels[i]; level++) {
+                player.applyShopUpgrade(types[i]);
+            }
+        }
+        return world;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeLong(seed);
+        out.writeDouble(playerX);
+        out.writeDouble(playerY);
+        out.writeInt(coins);
+        out.writeInt(enemiesKilled);
+        out.writeInt(shopLevels.length);
+        for (int level : shopLevels) {
+            out.writeInt(level);
+        }
+        out.writeInt(achievementTargets.length);
+        for (int i = 0; i < achievementTargets.length; i++) {
+            out.writeInt(achievementTargets[i]);
+            out.writeInt(achievementBonuses[i]);
+            out.writeBoolean(achievementUnlocked[i]);
+        }
+    }
+
+    static SessionHeader read(DataInputStream in) throws IOException {
+        long seed = in.readLong();
+        double playerX = in.readDouble();
+        double playerY = in.readDouble();
+        int coins = in.readInt();
+        int enemiesKilled = in.readInt();
+        int[] shopLevels = new int[in.readInt()];
+        for (int i = 0; i < shopLevels.length; i++) {
+            shopLevels[i] = in.readInt();
+        }
+        int achievementCount = in.readInt();
+        int[] targets = new int[achievementCount];
+        int[] bonuses = new int[achievementCount];
+        boolean[] unlocked = new boolean[achievementCount];
+        for (int i = 0; i < achievementCount; i++) {
+            targets[i] = in.readInt();
+            bonuses[i] = in.readInt();
+            unlocked[i] = in.readBoolean();
+        }
+        return new SessionHeader(seed, playerX, playerY, coins, enemiesKilled, shopLevels, targets, bonuses, unlocked);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
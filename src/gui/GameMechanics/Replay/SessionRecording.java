@@ -0,0 +1,64 @@
+package gui.GameMechanics.Replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+public final class SessionRecording {
+    private static final int MAGIC = 0x52504C59;
+    private static final int FORMAT_VERSION = 1;
+    private final SessionHeader header;
+    private final int tickCount;
+    private final byte[] frames;
+
+    SessionRecording(SessionHeader header, int tickCount, byte[] frames) {
+        this.header = header;
+        this.tickCount = tickCount;
+        this.frames = frames;
+    }
+
+    public void save(File file) throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists()) {
+            dir.mkdirs();
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            header.write(out);
+            out.writeInt(tickCount);
+            out.writeInt(frames.length);
+            out.write(frames);
+        }
+    }
+
+    public static SessionRecording load(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported replay file: " + file);
+            }
+            SessionHeader header = SessionHeader.read(in);
+            int tickCount = in.readInt();
+            byte[] frames = new byte[in.readInt()];
+            in.readFully(frames);
+            return new SessionRecording(header, tickCount, frames);
+        }
+    }
+
+    public SessionHeader getHeader() {
+        return header;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    byte[] getFrames() {
+        return frames;
+    }
+}
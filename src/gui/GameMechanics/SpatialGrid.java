@@ -0,0 +1,74 @@
+package gui.GameMechanics;
+
+import gui.Enemies.Enemy;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SpatialGrid {
+    public static final int EMPTY = -1;
+    private final int cellSize;
+    private final int columns;
+    private final int[] cellHeads;
+    private int[] next = new int[64];
+    private int maxCollisionRadius;
+
+    public SpatialGrid(int worldSize, int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (worldSize + cellSize - 1) / cellSize);
+        this.cellHeads = new int[columns * columns];
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(cellHeads, EMPTY);
+        maxCollisionRadius = 0;
+    }
+
+    public void rebuild(List<? extends Enemy> enemies) {
+        clear();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            insert(i, enemy.getX(), enemy.getY(), enemy.getCollisionRadius());
+        }
+    }
+
+    public void insert(int id, double x, double y, int collisionRadius) {
+        maxCollisionRadius = Math.max(maxCollisionRadius, collisionRadius);
+        insert(id, x, y);
+    }
+
+    public void insert(int id, double x, double y) {
+        if (id >= next.length) {
+            next = Arrays.copyOf(next, Math.max(id + 1, next.length * 2));
+        }
+        int cell = cellCoord(y) * columns + cellCoord(x);
+        next[id] = cellHeads[cell];
+        cellHeads[cell] = id;
+    }
+
+    public int cellCoord(double value) {
+        int cell = (int) Math.floor(value / cellSize);
+        return Math.max(0, Math.min(cell, columns - 1));
+    }
+
+    public int first(int cellX, int cellY) {
+        return cellHeads[cellY * columns + cellX];
+    }
+
+    public int next(int id) {
+        return next[id];
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    public int getMaxCollisionRadius() {
+        return maxCollisionRadius;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,384 @@
+package gui.GameMechanics;
+
+import gui.Enemies.Enemy;
+import gui.Enemies.EnemyStore;
+import gui.Enemies.EnemyType;
+import gui.GameMechanics.Replay.InputRecorder;
+import gui.GameMechanics.Replay.SessionHeader;
+import gui.GameMechanics.Replay.SessionRecording;
+import gui.SpawnScheduler;
+import gui.WaveManager;
+import gui.performance.PerformanceMonitor;
+import gui.performance.TickPhase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class World {
+    public static final int MAP_SIZE = 3200;
+    public static final int BORDER_PADDING = 5;
+    public static final int ENEMY_SPAWN_RADIUS = 400;
+    public static final int ENEMY_GRID_CELL_SIZE = 64;
+    public static final long TICK_MILLIS = 20;
+    private static final int REGENERATION_INTERVAL = 5;
+    private static final long UPGRADE_STREAM_SALT = 0x5DEECE66DL;
+    private final List<Achievement> achievements;
+    private final Random waveRandom = new Random();
+    private final Random upgradeRandom = new Random();
+    private long seed;
+    private InputRecorder recorder;
+    private final ProgressStore progress;
+    private final Player player;
+    private final List<Enemy> enemies = Collections.synchronizedList(new ArrayList<>());
+    private final List<Bullet> bullets = Collections.synchronizedList(new ArrayList<>());
+    private final WaveManager waveManager;
+    private final SpawnScheduler spawnScheduler;
+    private SpatialGrid enemyGrid = new SpatialGrid(MAP_SIZE, ENEMY_GRID_CELL_SIZE);
+    private final EnemyStore enemyStore = new EnemyStore();
+    private final BulletPool bulletPool = new BulletPool();
+    private int moveX;
+    private int moveY;
+    private double aimX;
+    private double aimY;
+    private boolean gameOver = false;
+    private boolean awaitingUpgrade = false;
+    private List<UpgradeType> offeredUpgrades = new ArrayList<>();
+    private int frameCounter = 0;
+    private long tickCount = 0;
+    private PerformanceMonitor monitor;
+    private int[] contactHits = new int[8];
+    private boolean contactGridFresh;
+    private boolean enemyStoreLoaded;
+
+    public World(List<Achievement> achievements) {
+        this(achievements, new Random().nextLong(), WriteBehindProgressStore.forPreferences());
+    }
+
+    public World(List<Achievement> achievements, long seed, ProgressStore progress) {
+        this.achievements = achievements;
+        this.progress = progress;
+        seedStreams(seed);
+        this.player = new Player(MAP_SIZE / 2.0, MAP_SIZE / 2.0, achievements, progress,
+                this::currentTimeMillis, upgradeRandom);
+        this.waveManager = new WaveManager(this::currentTimeMillis, waveRandom);
+        this.spawnScheduler = new SpawnScheduler(waveManager);
+    }
+
+    private void seedStreams(long seed) {
+        this.seed = seed;
+        waveRandom.setSeed(seed);
+        upgradeRandom.setSeed(seed ^ UPGRADE_STREAM_SALT);
+    }
+
+    public long currentTimeMillis() {
+        return tickCount * TICK_MILLIS;
+    }
+
+    public void startRecording() {
+        if (tickCount != 0) {
+            throw new IllegalStateException("Recording must start before the first tick of a session");
+        }
+        recorder = new InputRecorder(SessionHeader.capture(this));
+    }
+
+    public SessionRecording stopRecording() {
+        if (recorder == null) return null;
+        SessionRecording recording = recorder.finish();
+        recorder = null;
+        return recording;
+    }
+
+    public void setMovement(int moveX, int moveY) {
+        this.moveX = Integer.signum(moveX);
+        this.moveY = Integer.signum(moveY);
+    }
+
+    public void setAim(double aimX, double aimY) {
+        this.aimX = aimX;
+        this.aimY = aimY;
+    }
+
+    public void tick() {
+        if (recorder != null) {
+            recorder.recordTick(moveX, moveY, aimX, aimY);
+        }
+        if (gameOver || awaitingUpgrade) return;
+        long tickStart = System.nanoTime();
+        long phaseStart = tickStart;
+        movePlayer();
+        phaseStart = lap(TickPhase.MOVE_PLAYER, phaseStart);
+        shoot();
+        phaseStart = lap(TickPhase.SHOOT, phaseStart);
+        updateBullets();
+        phaseStart = lap(TickPhase.UPDATE_BULLETS, phaseStart);
+        moveEnemies();
+        phaseStart = lap(TickPhase.MOVE_ENEMIES, phaseStart);
+        checkCollisions();
+        frameCounter++;
+        if (frameCounter >= REGENERATION_INTERVAL) {
+            player.regenerateHealth(1);
+            frameCounter = 0;
+        }
+        phaseStart = lap(TickPhase.COLLISIONS, phaseStart);
+        checkWaveSpawning();
+        lap(TickPhase.SPAWNING, phaseStart);
+        tickCount++;
+        if (monitor != null) {
+            monitor.recordTick(System.nanoTime() - tickStart, enemies.size(), bullets.size());
+        }
+    }
+
+    private long lap(TickPhase phase, long phaseStart) {
+        long now = System.nanoTime();
+        if (monitor != null) {
+            monitor.recordPhase(phase, now - phaseStart);
+        }
+        return now;
+    }
+
+    public void setPerformanceMonitor(PerformanceMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    public PerformanceMonitor getPerformanceMonitor() {
+        return monitor;
+    }
+
+    public void movePlayer() {
+        double dx = moveX * player.getMoveSpeed();
+        double dy = moveY * player.getMoveSpeed();
+        player.move(dx, dy, MAP_SIZE);
+    }
+
+    public void shoot() {
+        Bullet bullet = player.shoot(aimX, aimY, bulletPool);
+        if (bullet != null) {
+            bullets.add(bullet);
+        }
+    }
+
+    public void updateBullets() {
+        synchronized(bullets) {
+            int previousLevel = player.getLevel();
+            synchronized(enemies) {
+                syncEnemyStore();
+                fillEnemyGrid();
+                boolean enemyKilled = false;
+                for (int i = 0; i < bullets.size(); i++) {
+                    Bullet bullet = bullets.get(i);
+                    bullet.update();
+                    if (bullet.getX() < 0 || bullet.getX() > MAP_SIZE || bullet.getY() < 0 || bullet.getY() > MAP_SIZE) {
+                        bullet.deactivate();
+                    }
+                    if (bullet.isActive() && hitNearbyEnemy(bullet)) {
+                        enemyKilled = true;
+                    }
+                }
+                if (enemyKilled) {
+                    enemies.removeIf(enemy -> !enemy.isAlive());
+                    enemyStore.removeDead();
+                    contactGridFresh = false;
+                }
+            }
+            releaseInactiveBullets();
+            if (player.getLevel() > previousLevel) {
+                awaitingUpgrade = true;
+                offeredUpgrades = player.getUpgradeOptions();
+            }
+        }
+    }
+
+    private void releaseInactiveBullets() {
+        int kept = 0;
+        for (int i = 0; i < bullets.size(); i++) {
+            Bullet bullet = bullets.get(i);
+            if (bullet.isActive()) {
+                bullets.set(kept++, bullet);
+            } else {
+                bulletPool.release(bullet);
+            }
+        }
+        for (int i = bullets.size() - 1; i >= kept; i--) {
+            bullets.remove(i);
+        }
+    }
+
+    private boolean hitNearbyEnemy(Bullet bullet) {
+        double reach = enemyStore.getMaxCollisionRadius() / 2.0 + Bullet.SIZE;
+        int fromX = enemyGrid.cellCoord(Math.min(bullet.getPrevX(), bullet.getX()) - reach);
+        int toX = enemyGrid.cellCoord(Math.max(bullet.getPrevX(), bullet.getX()) + reach);
+        int fromY = enemyGrid.cellCoord(Math.min(bullet.getPrevY(), bullet.getY()) - reach);
+        int toY = enemyGrid.cellCoord(Math.max(bullet.getPrevY(), bullet.getY()) + reach);
+        // Пуля не пробивает врагов: урон получает первый задетый враг в порядке списка, как при полном переборе
+        int target = SpatialGrid.EMPTY;
+        for (int cellY = fromY; cellY <= toY; cellY++) {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                for (int id = enemyGrid.first(cellX, cellY); id != SpatialGrid.EMPTY; id = enemyGrid.next(id)) {
+                    if ((target == SpatialGrid.EMPTY || id < target) && enemyStore.getHealth(id) > 0
+                            && bullet.checkCollision(enemyStore.getX(id), enemyStore.getY(id), enemyStore.getCollisionRadius(id))) {
+                        target = id;
+                    }
+                }
+            }
+        }
+        return target != SpatialGrid.EMPTY && hitEnemy(bullet, target);
+    }
+
+    private boolean hitEnemy(Bullet bullet, int id) {
+        Enemy enemy = enemies.get(id);
+        bullet.deactivate();
+        enemy.takeDamage(bullet.getDamage());
+        enemyStore.setHealth(id, enemy.getHealth());
+        if (enemy.isAlive()) {
+            return false;
+        }
+        player.addXp(enemy.getXpReward());
+        player.addCoins(enemy.getCoinReward());
+        player.addEnemyKill();
+        waveManager.enemyDied();
+        return true;
+    }
+
+    public void moveEnemies() {
+        synchronized(enemies) {
+            syncEnemyStore();
+            fillEnemyGrid();
+            enemyStore.moveAll(player.getX(), player.getY(), enemyGrid);
+            enemyStore.storePositions(enemies);
+            // Перестраиваем сетку по новым позициям - по ней ищется контакт с игроком
+            enemyStore.fillGrid(enemyGrid);
+            contactGridFresh = true;
+        }
+    }
+
+    // Хранилище перечитывает список только после правок извне тика: свои изменения World вносит в оба сразу
+    private void syncEnemyStore() {
+        if (!enemyStoreLoaded || enemyStore.getCount() != enemies.size()) {
+            enemyStore.load(enemies);
+            enemyStoreLoaded = true;
+        }
+    }
+
+    // Ячейка не меньше самого крупного врага, иначе поиск соседей обходит лишние ячейки
+    private void fillEnemyGrid() {
+        int maxCollisionRadius = enemyStore.getMaxCollisionRadius();
+        if (maxCollisionRadius > enemyGrid.getCellSize()) {
+            enemyGrid = new SpatialGrid(MAP_SIZE, maxCollisionRadius);
+        }
+        enemyStore.fillGrid(enemyGrid);
+    }
+
+    // Контакт проверяется в мировых координатах: только враги из ячеек вокруг игрока, точное пересечение кругов
+    public void checkCollisions() {
+        double playerRadius = Player.SIZE / 2.0;
+        double playerCenterX = player.getX() + playerRadius;
+        double playerCenterY = player.getY() + playerRadius;
+        synchronized(enemies) {
+            if (!contactGridFresh || enemyStore.getCount() != enemies.size()) {
+                syncEnemyStore();
+                fillEnemyGrid();
+            }
+            contactGridFresh = false;
+            int maxSize = EnemyType.maxSize();
+            int fromX = enemyGrid.cellCoord(player.getX() - maxSize);
+            int toX = enemyGrid.cellCoord(player.getX() + Player.SIZE);
+            int fromY = enemyGrid.cellCoord(player.getY() - maxSize);
+            int toY = enemyGrid.cellCoord(player.getY() + Player.SIZE);
+            int hits = 0;
+            for (int cellY = fromY; cellY <= toY; cellY++) {
+                for (int cellX = fromX; cellX <= toX; cellX++) {
+                    for (int id = enemyGrid.first(cellX, cellY); id != SpatialGrid.EMPTY; id = enemyGrid.next(id)) {
+                        Enemy enemy = enemies.get(id);
+                        double radius = enemy.getSize() / 2.0;
+                        if (Collisions.circlesOverlap(enemy.getX() + radius, enemy.getY() + radius, radius,
+                                playerCenterX, playerCenterY, playerRadius)) {
+                            if (hits == contactHits.length) {
+                                contactHits = Arrays.copyOf(contactHits, hits * 2);
+                            }
+                            contactHits[hits++] = id;
+                        }
+                    }
+                }
+            }
+            if (hits == 0) return;
+            // Порядок списка сохраняем: урон применяем по возрастанию индексов, удаляем с конца
+            Arrays.sort(contactHits, 0, hits);
+            for (int h = 0; h < hits; h++) {
+                Enemy enemy = enemies.get(contactHits[h]);
+                player.takeDamage(enemy.getDamage());
+                waveManager.enemyDied();
+                player.addEnemyKill();
+                if (!player.isAlive()) {
+                    gameOver = true;
+                }
+            }
+            for (int h = hits - 1; h >= 0; h--) {
+                enemies.remove(contactHits[h]);
+                enemyStore.removeAt(contactHits[h]);
+            }
+        }
+    }
+
+    public void checkWaveSpawning() {
+        if (spawnScheduler.hasWork()) {
+            synchronized(enemies) {
+                List<Enemy> spawned = spawnScheduler.spawnNext(player.getX(), player.getY(), MAP_SIZE, enemies);
+                if (enemyStoreLoaded && enemyStore.getCount() == enemies.size()) {
+                    enemyStore.append(spawned);
+                }
+                enemies.addAll(spawned);
+            }
+        }
+    }
+
+    public void chooseUpgrade(int index) {
+        if (!awaitingUpgrade || index < 0 || index >= offeredUpgrades.size()) return;
+        if (recorder != null) {
+            recorder.recordUpgradeChoice(index);
+        }
+        player.applyUpgrade(offeredUpgrades.get(index));
+        awaitingUpgrade = false;
+        offeredUpgrades = new ArrayList<>();
+    }
+
+    public void flushProgress() {
+        progress.flush();
+    }
+
+    public void reset() {
+        player.reset();
+        enemies.clear();
+        synchronized(bullets) {
+            for (int i = 0; i < bullets.size(); i++) {
+                bulletPool.release(bullets.get(i));
+            }
+            bullets.clear();
+        }
+        waveManager.reset();
+        enemyStoreLoaded = false;
+        contactGridFresh = false;
+        gameOver = false;
+        awaitingUpgrade = false;
+        offeredUpgrades = new ArrayList<>();
+        frameCounter = 0;
+        tickCount = 0;
+        recorder = null;
+        seedStreams(new Random(seed).nextLong());
+    }
+
+    public Player getPlayer() { return player; }
+    public EnemyStore getEnemyStore() { return enemyStore; }
+    public BulletPool getBulletPool() { return bulletPool; }
+    public List<Enemy> getEnemies() { return enemies; }
+    public List<Bullet> getBullets() { return bullets; }
+    public WaveManager getWaveManager() { return waveManager; }
+    public boolean isGameOver() { return gameOver; }
+    public boolean isAwaitingUpgrade() { return awaitingUpgrade; }
+    public List<UpgradeType> getOfferedUpgrades() { return offeredUpgrades; }
+    public long getTickCount() { return tickCount; }
+    public long getSeed() { return seed; }
+    public List<Achievement> getAchievements() { return achievements; }
+}
@@ -0,0 +1,100 @@
+package gui.GameMechanics;
+
+import log.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Держит счётчики в памяти и сбрасывает в хранилище фоновым потоком,
+// чтобы убийства и монеты не вызывали I/O на игровом тике
+public class WriteBehindProgressStore implements ProgressStore, AutoCloseable {
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS =
+            Long.getLong("game.progress.flushIntervalMillis", 2000L);
+    private static WriteBehindProgressStore preferencesStore;
+
+    private final ProgressStore delegate;
+    private final Map<String, Integer> values = new ConcurrentHashMap<>();
+    private final Map<String, Integer> dirty = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+    private final Thread shutdownHook = new Thread(this::flush, "progress-flush-on-exit");
+
+    public WriteBehindProgressStore(ProgressStore delegate) {
+        this(delegate, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    public WriteBehindProgressStore(ProgressStore delegate, long flushIntervalMillis) {
+        this.delegate = delegate;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    public static synchronized WriteBehindProgressStore forPreferences() {
+        if (preferencesStore == null) {
+            preferencesStore = new WriteBehindProgressStore(new PreferencesProgressStore());
+        }
+        return preferencesStore;
+    }
+
+    @Override
+    public int load(String key, int defaultValue) {
+        Integer value = values.get(key);
+        return value != null ? value : delegate.load(key, defaultValue);
+    }
+
+    @Override
+    public void save(String key, int value) {
+        values.put(key, value);
+        dirty.put(key, value);
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        boolean written = false;
+        for (String key : dirty.keySet()) {
+            Integer value = dirty.remove(key);
+            if (value != null) {
+                delegate.save(key, value);
+                written = true;
+            }
+        }
+        // Без записей сброс хранилища - лишний I/O раз в интервал
+        if (written) {
+            delegate.flush();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            Logger.error("Error saving player progress: {}", e.getMessage());
+        }
+    }
+
+    public boolean hasPendingWrites() {
+        return !dirty.isEmpty();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        flush();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM уже завершается - хук отработает сам
+        }
+    }
+}
@@ -177,7 +177,7 @@ public class MainApplicationFrame extends JFrame {
                 }
             }
         } catch (Exception e) {
-            Logger.error("Error recreating UI: " + e.getMessage());
+            Logger.error("Error recreating UI: {}", e.getMessage());
         }
 
         setupMenuBar();
@@ -2,8 +2,11 @@ package gui;
 
 import log.LogWindowSource;
 import log.Logger;
+import log.SegmentFileAppender;
 
 import java.awt.Frame;
+import java.io.File;
+import java.io.IOException;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import javax.swing.SwingUtilities;
@@ -22,6 +25,13 @@ public class RobotsProgram {
     ResourceBundle bundle = ResourceBundle.getBundle("messages", Locale.getDefault());
     LogWindowSource logSource = Logger.getDefaultLogSource();
 
+    // Полная история лога пишется на диск в фоне
+    try {
+      logSource.attachSink(new SegmentFileAppender(new File("logs")));
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+
     // Запуск приложения
     SwingUtilities.invokeLater(() -> {
       MainApplicationFrame frame = new MainApplicationFrame(bundle, logSource); // Передаем ResourceBundle
@@ -0,0 +1,42 @@
+package gui;
+
+import gui.Enemies.Enemy;
+
+import java.util.List;
+
+// Раскладывает появление врагов волны на несколько тиков: за тик ставится не больше spawnsPerTick врагов,
+// поэтому начало большой волны не даёт скачка времени тика
+public class SpawnScheduler {
+    public static final int DEFAULT_SPAWNS_PER_TICK = 6;
+
+    private final WaveManager waveManager;
+    private final int spawnsPerTick;
+
+    public SpawnScheduler(WaveManager waveManager) {
+        this(waveManager, DEFAULT_SPAWNS_PER_TICK);
+    }
+
+    public SpawnScheduler(WaveManager waveManager, int spawnsPerTick) {
+        if (spawnsPerTick <= 0) {
+            throw new IllegalArgumentException("Spawns per tick must be positive: " + spawnsPerTick);
+        }
+        this.waveManager = waveManager;
+        this.spawnsPerTick = spawnsPerTick;
+    }
+
+    // Дешёвая проверка без блокировок: есть ли что ставить в этом тике
+    public boolean hasWork() {
+        return waveManager.hasPendingSpawns() || waveManager.shouldSpawnWave();
+    }
+
+    public List<Enemy> spawnNext(double playerX, double playerY, int mapSize, List<Enemy> existingEnemies) {
+        if (!waveManager.hasPendingSpawns()) {
+            waveManager.startNextWave();
+        }
+        return waveManager.spawnEnemies(playerX, playerY, mapSize, existingEnemies, spawnsPerTick);
+    }
+
+    public int getSpawnsPerTick() {
+        return spawnsPerTick;
+    }
+}
@@ -0,0 +1,81 @@
+package gui.Visuals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+// Фон один раз переводится в совместимый с экраном формат и режется на тайлы;
+// за кадр рисуются только тайлы, попадающие в видимую область
+public class BackgroundRenderer {
+    public static final int DEFAULT_TILE_SIZE = 256;
+    private final int tileSize;
+    private final int width;
+    private final int height;
+    private final int columns;
+    private final int rows;
+    private final Image[] tiles;
+    private int lastDrawnTiles;
+
+    public BackgroundRenderer(BufferedImage source) {
+        this(source, DEFAULT_TILE_SIZE, defaultConfiguration());
+    }
+
+    public BackgroundRenderer(BufferedImage source, int tileSize, GraphicsConfiguration configuration) {
+        this.tileSize = tileSize;
+        this.width = source.getWidth();
+        this.height = source.getHeight();
+        this.columns = (width + tileSize - 1) / tileSize;
+        this.rows = (height + tileSize - 1) / tileSize;
+        this.tiles = new Image[columns * rows];
+        int transparency = source.getColorModel().getTransparency();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int tileWidth = Math.min(tileSize, width - column * tileSize);
+                int tileHeight = Math.min(tileSize, height - row * tileSize);
+                BufferedImage tile = configuration != null
+                        ? configuration.createCompatibleImage(tileWidth, tileHeight, transparency)
+                        : new BufferedImage(tileWidth, tileHeight, transparency == Transparency.OPAQUE
+                                ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g = tile.createGraphics();
+                g.drawImage(source, -column * tileSize, -row * tileSize, null);
+                g.dispose();
+                tiles[row * columns + column] = tile;
+            }
+        }
+    }
+
+    private static GraphicsConfiguration defaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) return null;
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+
+    public void draw(Graphics2D g2d, int offsetX, int offsetY, int viewWidth, int viewHeight) {
+        int fromColumn = Math.max(0, Math.floorDiv(offsetX, tileSize));
+        int fromRow = Math.max(0, Math.floorDiv(offsetY, tileSize));
+        int toColumn = Math.min(columns - 1, Math.floorDiv(offsetX + viewWidth - 1, tileSize));
+        int toRow = Math.min(rows - 1, Math.floorDiv(offsetY + viewHeight - 1, tileSize));
+        int drawn = 0;
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                g2d.drawImage(tiles[row * columns + column], column * tileSize - offsetX, row * tileSize - offsetY, null);
+                drawn++;
+            }
+        }
+        lastDrawnTiles = drawn;
+    }
+
+    public int getLastDrawnTiles() {
+        return lastDrawnTiles;
+    }
+
+    public int getTileCount() {
+        return tiles.length;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,71 @@
+package gui.Visuals;
+
+import log.Logger;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class GameLoop implements Runnable {
+    public static final long TICK_NANOS = 20_000_000L;
+    public static final int MAX_CATCH_UP_TICKS = 5;
+    private final Runnable tick;
+    private final Runnable render;
+    private long lag;
+    private volatile boolean running;
+    private Thread thread;
+
+    public GameLoop(Runnable tick, Runnable render) {
+        this.tick = tick;
+        this.render = render;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            try {
+                if (advance(now - previous) > 0) {
+                    render.run();
+                }
+            } catch (RuntimeException e) {
+                Logger.error("Game loop tick failed: {}", e);
+            }
+            previous = now;
+            LockSupport.parkNanos(TICK_NANOS - lag);
+        }
+    }
+
+    public int advance(long elapsedNanos) {
+        lag += elapsedNanos;
+        int ticks = 0;
+        while (lag >= TICK_NANOS && ticks < MAX_CATCH_UP_TICKS) {
+            tick.run();
+            lag -= TICK_NANOS;
+            ticks++;
+        }
+        if (lag >= TICK_NANOS) {
+            lag %= TICK_NANOS;
+        }
+        return ticks;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+}
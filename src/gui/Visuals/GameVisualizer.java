@@ -1,45 +1,61 @@
 package gui.Visuals;
 
 import gui.Enemies.Enemy;
+import gui.Enemies.EnemyType;
 import gui.GameMechanics.Player;
 import gui.GameMechanics.Bullet;
 import gui.GameMechanics.ShopUpgradeType;
 import gui.GameMechanics.UpgradeType;
 import gui.GameMechanics.Achievement;
+import gui.GameMechanics.World;
+import gui.GameMechanics.Replay.SessionRecording;
 import gui.WaveManager;
+import gui.performance.LatencyHistogram;
+import gui.performance.PerformanceMonitor;
+import gui.performance.TickPhase;
+import log.Logger;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.List;
 import java.util.Timer;
 
 public class GameVisualizer extends JPanel implements KeyListener, ComponentListener, MouseMotionListener {
-    public static final int MAP_SIZE = 3200;
-    public static final int BORDER_PADDING = 5;
-    public static final int ENEMY_SPAWN_RADIUS = 400;
+    public static final int MAP_SIZE = World.MAP_SIZE;
+    public static final int BORDER_PADDING = World.BORDER_PADDING;
+    public static final int ENEMY_SPAWN_RADIUS = World.ENEMY_SPAWN_RADIUS;
+    public static final String LAST_REPLAY_FILE = "replays" + File.separator + "last-session.replay";
+    private static final int MAX_ENTITY_DRAW_SIZE = 64;
+    private static final Color SHADE_COLOR = new Color(0, 0, 0, 0.7f);
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 0.6f);
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 48);
+    private static final Font COUNTDOWN_FONT = new Font("Arial", Font.BOLD, 30);
+    private static final Font PROMPT_FONT = new Font("Arial", Font.BOLD, 24);
+    private static final Font TEXT_FONT = new Font("Arial", Font.PLAIN, 20);
+    private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final long OVERLAY_REFRESH_NANOS = 250_000_000L;
     private final ResourceBundle bundle;
     private int windowWidth;
     private int windowHeight;
     private double cameraOffsetX;
     private double cameraOffsetY;
+    private final World world;
     private final Player player;
     private final Set<Integer> activeKeys = new HashSet<>();
-    private BufferedImage backgroundImage;
-    private final List<Enemy> enemies = Collections.synchronizedList(new ArrayList<>());
-    protected final List<Bullet> bullets = Collections.synchronizedList(new ArrayList<>());
-    private final WaveManager waveManager;
+    private BackgroundRenderer background;
+    protected final List<Bullet> bullets;
     protected int mouseX;
     protected int mouseY;
     protected boolean isPaused = false;
     protected boolean upgradeSelectionMode = false;
     protected List<UpgradeType> offeredUpgrades = new ArrayList<>();
     protected boolean gameOver = false;
-    private int frameCounter = 0;
     protected int countdown = 10;
     private Timer countdownTimer;
     public enum GameState { START_SCREEN, PLAYING, GAME_OVER, SHOP, ACHIEVEMENTS }
@@ -50,12 +66,26 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
     protected JPanel shopPanel;
     protected JPanel achievementsPanel;
     private final List<Achievement> achievements;
+    private final GameLoop gameLoop = new GameLoop(this::tick, this::render);
+    private volatile WorldSnapshot snapshot;
+    private final PerformanceMonitor performanceMonitor = new PerformanceMonitor();
+    protected boolean showPerformanceOverlay = false;
+    private List<String> overlayLines = new ArrayList<>();
+    private long overlayUpdatedAt;
+    private int lastDrawnEntities;
+    private final SpriteCache sprites = new SpriteCache();
+    private final HudRenderer hud;
+    private int[] visibleEnemies = new int[256];
 
     public GameVisualizer(ResourceBundle bundle) {
         this.bundle = bundle;
+        this.hud = new HudRenderer(bundle);
         this.achievements = initializeAchievements();
-        this.player = new Player(MAP_SIZE / 2.0, MAP_SIZE / 2.0, achievements);
-        this.waveManager = new WaveManager();
+        this.world = new World(achievements);
+        this.player = world.getPlayer();
+        this.bullets = world.getBullets();
+        world.setPerformanceMonitor(performanceMonitor);
+        performanceMonitor.register();
         initUI();
         loadResources();
         setupTimers();
@@ -94,9 +124,11 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
     public int getWindowHeight() { return windowHeight; }
     public double getCameraOffsetX() { return cameraOffsetX; }
     public double getCameraOffsetY() { return cameraOffsetY; }
-    public List<Enemy> getEnemies() { return enemies; }
+    public List<Enemy> getEnemies() { return world.getEnemies(); }
     public Player getPlayer() { return player; }
-    public WaveManager getWaveManager() { return waveManager; }
+    public WaveManager getWaveManager() { return world.getWaveManager(); }
+    public World getWorld() { return world; }
+    public PerformanceMonitor getPerformanceMonitor() { return performanceMonitor; }
 
     private void initUI() {
         setLayout(null);
@@ -126,6 +158,7 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
         startButton.setBounds(windowWidth / 2 - 100, windowHeight / 2 + 50, 200, 50);
         startButton.setVisible(true);
         startButton.addActionListener(e -> {
+            world.startRecording();
             gameState = GameState.PLAYING;
             startButton.setVisible(false);
             shopButton.setVisible(false);
@@ -226,7 +259,6 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
     }
 
     private void updateAchievementLabelText(JLabel label, Achievement achievement) {
-        achievement.updateStatus(player.getEnemiesKilled());
         String status = achievement.isUnlocked() ? bundle.getString("unlockedText") : bundle.getString("lockedText");
         label.setText(String.format("%s: %s (%s)",
                 achievement.getName(), achievement.getDescription(), status));
@@ -273,36 +305,19 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
 
     private void loadResources() {
         try {
-            backgroundImage = ImageIO.read(Objects.requireNonNull(
+            BufferedImage backgroundImage = ImageIO.read(Objects.requireNonNull(
                     getClass().getResource("/Resource Bundle 'textures'/background.png")));
+            if (backgroundImage != null) {
+                background = new BackgroundRenderer(backgroundImage);
+            }
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
     private void setupTimers() {
-        new Timer(true).scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                if (gameState == GameState.PLAYING && !isPaused && !gameOver) {
-                    movePlayer();
-                    updateCamera();
-                    shoot();
-                    updateBullets();
-                    moveEnemies();
-                    checkCollisions();
-                    frameCounter++;
-                    if (frameCounter >= 5) {
-                        player.regenerateHealth(1);
-                        frameCounter = 0;
-                    }
-                    repaint();
-                    checkWaveSpawning();
-                } else if (gameState == GameState.GAME_OVER && countdown > 0) {
-                    repaint();
-                }
-            }
-        }, 0, 20);
+        snapshot = captureSnapshot();
+        gameLoop.start();
         countdownTimer = new Timer(true);
         countdownTimer.scheduleAtFixedRate(new TimerTask() {
             @Override
@@ -318,11 +333,73 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
         }, 0, 1000);
     }
 
+    private void tick() {
+        if (gameState == GameState.PLAYING && !isPaused && !gameOver) {
+            applyMovementKeys();
+            world.setAim(mouseX + cameraOffsetX, mouseY + cameraOffsetY);
+            world.tick();
+            updateCamera();
+            syncWorldState();
+        }
+    }
+
+    private void applyMovementKeys() {
+        int moveX = 0, moveY = 0;
+        if (activeKeys.contains(KeyEvent.VK_W)) moveY--;
+        if (activeKeys.contains(KeyEvent.VK_S)) moveY++;
+        if (activeKeys.contains(KeyEvent.VK_A)) moveX--;
+        if (activeKeys.contains(KeyEvent.VK_D)) moveX++;
+        world.setMovement(moveX, moveY);
+    }
+
+    private void syncWorldState() {
+        if (world.isAwaitingUpgrade() && !upgradeSelectionMode) {
+            isPaused = true;
+            upgradeSelectionMode = true;
+            offeredUpgrades = world.getOfferedUpgrades();
+        }
+        if (world.isGameOver() && !gameOver) {
+            gameOver = true;
+            isPaused = true;
+            gameState = GameState.GAME_OVER;
+            world.flushProgress();
+            saveReplay();
+            repaint();
+        }
+    }
+
+    private void saveReplay() {
+        SessionRecording recording = world.stopRecording();
+        if (recording == null) return;
+        try {
+            recording.save(new File(LAST_REPLAY_FILE));
+        } catch (IOException e) {
+            Logger.error("Error saving replay: {}", e.getMessage());
+        }
+    }
+
+    private void render() {
+        if (gameState == GameState.PLAYING || gameState == GameState.GAME_OVER) {
+            snapshot = captureSnapshot();
+            repaint();
+        }
+    }
+
+    private WorldSnapshot captureSnapshot() {
+        return WorldSnapshot.capture(player, world.getEnemies(), bullets, world.getWaveManager(),
+                cameraOffsetX, cameraOffsetY);
+    }
+
+    public void stopGameLoop() {
+        gameLoop.stop();
+        countdownTimer.cancel();
+        performanceMonitor.unregister();
+        world.flushProgress();
+    }
+
     public void resetGame() {
-        player.reset();
-        enemies.clear();
-        bullets.clear();
-        waveManager.reset();
+        world.reset();
+        performanceMonitor.reset();
         gameOver = false;
         isPaused = false;
         countdown = 10;
@@ -335,6 +412,7 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
         achievementsButton.setVisible(true);
         shopPanel.setVisible(false);
         achievementsPanel.setVisible(false);
+        snapshot = captureSnapshot();
         repaint();
     }
 
@@ -359,12 +437,8 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
     }
 
     protected void movePlayer() {
-        double dx = 0, dy = 0;
-        if (activeKeys.contains(KeyEvent.VK_W)) dy -= Player.calculateNormalizedSpeed(0, dy) * player.getSpeed();
-        if (activeKeys.contains(KeyEvent.VK_S)) dy += Player.calculateNormalizedSpeed(0, dy) * player.getSpeed();
-        if (activeKeys.contains(KeyEvent.VK_A)) dx -= Player.calculateNormalizedSpeed(dx, 0) * player.getSpeed();
-        if (activeKeys.contains(KeyEvent.VK_D)) dx += Player.calculateNormalizedSpeed(dx, 0) * player.getSpeed();
-        player.move(dx, dy, MAP_SIZE);
+        applyMovementKeys();
+        world.movePlayer();
     }
 
     protected void updateCamera() {
@@ -375,135 +449,59 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
     }
 
     protected void shoot() {
-        synchronized(bullets) {
-            double adjustedMouseX = mouseX + cameraOffsetX;
-            double adjustedMouseY = mouseY + cameraOffsetY;
-            List<Bullet> newBullets = player.shoot(adjustedMouseX, adjustedMouseY);
-            bullets.addAll(newBullets);
-        }
+        world.setAim(mouseX + cameraOffsetX, mouseY + cameraOffsetY);
+        world.shoot();
     }
 
     protected void updateBullets() {
-        synchronized(bullets) {
-            Iterator<Bullet> bulletIterator = bullets.iterator();
-            int previousLevel = player.getLevel();
-            while (bulletIterator.hasNext()) {
-                Bullet bullet = bulletIterator.next();
-                bullet.update();
-                if (bullet.getX() < 0 || bullet.getX() > MAP_SIZE || bullet.getY() < 0 || bullet.getY() > MAP_SIZE) {
-                    bullet.deactivate();
-                }
-                synchronized(enemies) {
-                    Iterator<Enemy> enemyIterator = enemies.iterator();
-                    while (enemyIterator.hasNext()) {
-                        Enemy enemy = enemyIterator.next();
-                        if (bullet.checkCollision(enemy)) {
-                            bullet.deactivate();
-                            enemy.takeDamage(bullet.getDamage());
-                            if (!enemy.isAlive()) {
-                                player.addXp(enemy.getXpReward());
-                                player.addCoins(enemy.getCoinReward());
-                                player.addEnemyKill();
-                                enemyIterator.remove();
-                                waveManager.enemyDied();
-                            }
-                        }
-                    }
-                }
-                if (!bullet.isActive()) {
-                    bulletIterator.remove();
-                }
-            }
-            if (player.getLevel() > previousLevel) {
-                isPaused = true;
-                upgradeSelectionMode = true;
-                offeredUpgrades = player.getUpgradeOptions();
-            }
-        }
-    }
-
-    private void checkWaveSpawning() {
-        if (gameState == GameState.PLAYING && waveManager.shouldSpawnWave()) {
-            waveManager.startNextWave();
-            synchronized(enemies) {
-                enemies.addAll(waveManager.spawnEnemies(
-                        player.getX(), player.getY(), MAP_SIZE, enemies
-                ));
-            }
-        }
+        world.updateBullets();
+        syncWorldState();
     }
 
     protected void moveEnemies() {
-        synchronized(enemies) {
-            for (Enemy enemy : enemies) {
-                enemy.move(player.getX(), player.getY(), enemies);
-            }
-        }
+        world.moveEnemies();
     }
 
     protected void checkCollisions() {
-        synchronized(enemies) {
-            Iterator<Enemy> iterator = enemies.iterator();
-            while (iterator.hasNext()) {
-                Enemy enemy = iterator.next();
-                Rectangle enemyBounds = enemy.getBounds(cameraOffsetX, cameraOffsetY);
-                Rectangle playerBounds = player.getBounds(cameraOffsetX, cameraOffsetY);
-                if (enemyBounds.intersects(playerBounds)) {
-                    player.takeDamage(enemy.getDamage());
-                    iterator.remove();
-                    waveManager.enemyDied();
-                    player.addEnemyKill();
-                    if (!player.isAlive()) {
-                        gameOver = true;
-                        isPaused = true;
-                        gameState = GameState.GAME_OVER;
-                        repaint();
-                    }
-                }
-            }
-        }
+        world.checkCollisions();
+        syncWorldState();
     }
 
     @Override
     protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
-        if (backgroundImage != null) {
-            g2d.drawImage(backgroundImage, -(int)cameraOffsetX, -(int)cameraOffsetY, null);
+        paintScene(g2d);
+        performanceMonitor.recordPaint(System.nanoTime() - paintStart);
+        if (showPerformanceOverlay) {
+            drawPerformanceOverlay(g2d);
+        }
+    }
+
+    private void paintScene(Graphics2D g2d) {
+        WorldSnapshot frame = snapshot;
+        int offsetX = (int) frame.getCameraOffsetX();
+        int offsetY = (int) frame.getCameraOffsetY();
+        if (background != null) {
+            background.draw(g2d, offsetX, offsetY, windowWidth, windowHeight);
         } else {
             g2d.setColor(Color.GRAY);
-            g2d.fillRect(-(int)cameraOffsetX, -(int)cameraOffsetY, MAP_SIZE, MAP_SIZE);
+            g2d.fillRect(-offsetX, -offsetY, MAP_SIZE, MAP_SIZE);
         }
         g2d.setColor(Color.RED);
-        g2d.drawRect(-(int)cameraOffsetX, -(int)cameraOffsetY, MAP_SIZE, MAP_SIZE);
+        g2d.drawRect(-offsetX, -offsetY, MAP_SIZE, MAP_SIZE);
         if (gameState == GameState.PLAYING || gameState == GameState.GAME_OVER) {
-            synchronized(enemies) {
-                for (Enemy enemy : enemies) {
-                    enemy.draw(g2d, cameraOffsetX, cameraOffsetY);
-                }
-            }
-            synchronized(bullets) {
-                for (Bullet bullet : bullets) {
-                    bullet.draw(g2d, cameraOffsetX, cameraOffsetY);
-                }
-            }
-            player.draw(g2d, cameraOffsetX, cameraOffsetY);
-            g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 20));
-            g2d.drawString(bundle.getString("waves") + waveManager.getCurrentWave(), 20, 30);
-            g2d.drawString(bundle.getString("enemies") + waveManager.getEnemiesAlive(), 20, 60);
-            g2d.drawString(bundle.getString("levelLabel") + player.getLevel() + " " + bundle.getString("xpLabel") + player.getXp() + "/" + player.getXpToNextLevel(), 20, 90);
-            g2d.drawString(bundle.getString("healthLabel") + player.getHealth() + "/" + player.getMaxHealth(), 20, 120);
-            g2d.drawString(bundle.getString("coinsLabel") + player.getCoins(), 20, 150);
-            g2d.drawString(bundle.getString("enemiesKilledLabel") + player.getEnemiesKilled(), 20, 180);
+            drawEntities(g2d, frame);
+            hud.draw(g2d, frame);
 
             if (upgradeSelectionMode) {
-                g2d.setColor(new Color(0, 0, 0, 0.7f));
+                g2d.setColor(SHADE_COLOR);
                 g2d.fillRect(0, 0, windowWidth, windowHeight);
                 g2d.setColor(Color.WHITE);
-                g2d.setFont(new Font("Arial", Font.BOLD, 24));
+                g2d.setFont(PROMPT_FONT);
                 g2d.drawString(String.format(bundle.getString("upgradePrompt"), player.getLevel()), windowWidth / 2 - 200, windowHeight / 2 - 100);
-                g2d.setFont(new Font("Arial", Font.PLAIN, 20));
+                g2d.setFont(TEXT_FONT);
                 g2d.drawString(bundle.getString("currentDamageLabel") + player.getBulletDamage(), windowWidth / 2 - 150, windowHeight / 2 - 70);
                 for (int i = 0; i < offeredUpgrades.size(); i++) {
                     g2d.drawString((i + 1) + ": " + bundle.getString(offeredUpgrades.get(i).getDescriptionKey()), windowWidth / 2 - 150, windowHeight / 2 - 40 + i * 30);
@@ -511,40 +509,144 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
                 g2d.drawString(bundle.getString("selectUpgradeInstruction"), windowWidth / 2 - 100, windowHeight / 2 + 50);
             }
             if (gameState == GameState.GAME_OVER) {
-                g2d.setColor(new Color(0, 0, 0, 0.7f));
+                g2d.setColor(SHADE_COLOR);
                 g2d.fillRect(0, 0, windowWidth, windowHeight);
                 g2d.setColor(Color.RED);
-                g2d.setFont(new Font("Arial", Font.BOLD, 48));
+                g2d.setFont(TITLE_FONT);
                 g2d.drawString(bundle.getString("gameOverMessage"), windowWidth / 2 - 150, windowHeight / 2 - 50);
                 g2d.setColor(Color.WHITE);
-                g2d.setFont(new Font("Arial", Font.BOLD, 30));
+                g2d.setFont(COUNTDOWN_FONT);
                 g2d.drawString(bundle.getString("restartCountdownPrefix") + countdown, windowWidth / 2 - 150, windowHeight / 2 + 20);
             }
         } else if (gameState == GameState.START_SCREEN) {
-            g2d.setColor(new Color(0, 0, 0, 0.7f));
+            g2d.setColor(SHADE_COLOR);
             g2d.fillRect(0, 0, windowWidth, windowHeight);
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 48));
+            g2d.setFont(TITLE_FONT);
             g2d.drawString(bundle.getString("welcomeMessage"), windowWidth / 2 - 150, windowHeight / 2 - 50);
         } else if (gameState == GameState.SHOP) {
-            g2d.setColor(new Color(0, 0, 0, 0.7f));
+            g2d.setColor(SHADE_COLOR);
             g2d.fillRect(0, 0, windowWidth, windowHeight);
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 48));
+            g2d.setFont(TITLE_FONT);
             g2d.drawString(bundle.getString("shopTitle"), windowWidth / 2 - 100, windowHeight / 2 - 150);
-            g2d.setFont(new Font("Arial", Font.BOLD, 20));
+            g2d.setFont(HudRenderer.HUD_FONT);
             g2d.drawString(bundle.getString("coinsLabel") + player.getCoins(), windowWidth / 2 - 100, windowHeight / 2 - 120);
         } else if (gameState == GameState.ACHIEVEMENTS) {
-            g2d.setColor(new Color(0, 0, 0, 0.7f));
+            g2d.setColor(SHADE_COLOR);
             g2d.fillRect(0, 0, windowWidth, windowHeight);
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 48));
+            g2d.setFont(TITLE_FONT);
             g2d.drawString(bundle.getString("achievementsTitle"), windowWidth / 2 - 150, windowHeight / 2 - 150);
         }
     }
 
+    private void drawPerformanceOverlay(Graphics2D g2d) {
+        long now = System.nanoTime();
+        if (overlayLines.isEmpty() || now - overlayUpdatedAt >= OVERLAY_REFRESH_NANOS) {
+            overlayLines = buildOverlayLines(performanceMonitor);
+            overlayUpdatedAt = now;
+        }
+        List<String> lines = overlayLines;
+
+        int lineHeight = 16;
+        int width = 260;
+        int x = windowWidth - width - 10;
+        g2d.setColor(OVERLAY_BACKGROUND);
+        g2d.fillRect(x, 10, width, lines.size() * lineHeight + 10);
+        g2d.setColor(Color.GREEN);
+        g2d.setFont(OVERLAY_FONT);
+        for (int i = 0; i < lines.size(); i++) {
+            g2d.drawString(lines.get(i), x + 8, 10 + (i + 1) * lineHeight);
+        }
+    }
+
+    // Каждая гистограмма копируется один раз за обновление, а не на каждый перцентиль
+    private List<String> buildOverlayLines(PerformanceMonitor stats) {
+        LatencyHistogram.Snapshot tick = stats.getTickHistogram().snapshot();
+        LatencyHistogram.Snapshot paint = stats.getPaintHistogram().snapshot();
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("tick  p50 %.0f us  p99 %.0f us",
+                tick.getValueAtPercentile(50) / 1000.0, tick.getValueAtPercentile(99) / 1000.0));
+        lines.add(String.format("paint p50 %.0f us  p99 %.0f us",
+                paint.getValueAtPercentile(50) / 1000.0, paint.getValueAtPercentile(99) / 1000.0));
+        for (TickPhase phase : TickPhase.values()) {
+            lines.add(String.format("  %-14s p99 %.0f us", phase.name().toLowerCase(Locale.ROOT),
+                    stats.getPhaseHistogram(phase).snapshot().getValueAtPercentile(99) / 1000.0));
+        }
+        lines.add("enemies " + stats.getEnemyCount() + "  bullets " + stats.getBulletCount()
+                + "  drawn " + lastDrawnEntities);
+        lines.add(String.format("alloc %.1f MB/s", stats.getAllocationRateBytesPerSecond() / (1024.0 * 1024.0)));
+        return lines;
+    }
+
+    private void drawEntities(Graphics2D g2d, WorldSnapshot frame) {
+        double offsetX = frame.getCameraOffsetX();
+        double offsetY = frame.getCameraOffsetY();
+        // Сущность рисуется от своей точки вправо-вниз, поэтому захватываем соседние ячейки слева и сверху
+        int fromX = WorldSnapshot.cellCoord(offsetX - MAX_ENTITY_DRAW_SIZE);
+        int fromY = WorldSnapshot.cellCoord(offsetY - MAX_ENTITY_DRAW_SIZE);
+        int toX = WorldSnapshot.cellCoord(offsetX + windowWidth);
+        int toY = WorldSnapshot.cellCoord(offsetY + windowHeight);
+        int visible = 0;
+        for (int cellY = fromY; cellY <= toY; cellY++) {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                for (int i = frame.getEnemyCellStart(cellX, cellY); i < frame.getEnemyCellEnd(cellX, cellY); i++) {
+                    if (isOnScreen((int) (frame.getEnemyX(i) - offsetX), (int) (frame.getEnemyY(i) - offsetY),
+                            frame.getEnemySize(i))) {
+                        if (visible == visibleEnemies.length) {
+                            visibleEnemies = Arrays.copyOf(visibleEnemies, visible * 2);
+                        }
+                        visibleEnemies[visible++] = i;
+                    }
+                }
+            }
+        }
+        // Рисуем группами по типу, чтобы подряд шли блиты одного спрайта
+        for (int type = 0; type < EnemyType.count(); type++) {
+            Image sprite = null;
+            for (int v = 0; v < visible; v++) {
+                int i = visibleEnemies[v];
+                if (frame.getEnemyTypeId(i) != type) continue;
+                if (sprite == null) {
+                    sprite = sprites.enemy(EnemyType.byId(type));
+                }
+                g2d.drawImage(sprite, (int) (frame.getEnemyX(i) - offsetX), (int) (frame.getEnemyY(i) - offsetY), null);
+            }
+        }
+        int drawn = visible;
+        Image bulletSprite = sprites.bullet();
+        for (int cellY = fromY; cellY <= toY; cellY++) {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                for (int i = frame.getBulletCellStart(cellX, cellY); i < frame.getBulletCellEnd(cellX, cellY); i++) {
+                    int drawX = (int) (frame.getBulletX(i) - offsetX);
+                    int drawY = (int) (frame.getBulletY(i) - offsetY);
+                    if (isOnScreen(drawX, drawY, Bullet.SIZE)) {
+                        g2d.drawImage(bulletSprite, drawX, drawY, null);
+                        drawn++;
+                    }
+                }
+            }
+        }
+        lastDrawnEntities = drawn;
+        g2d.drawImage(sprites.player(), (int) (frame.getPlayerX() - offsetX), (int) (frame.getPlayerY() - offsetY), null);
+    }
+
+    private boolean isOnScreen(int drawX, int drawY, int size) {
+        return drawX + size >= 0 && drawY + size >= 0 && drawX <= windowWidth && drawY <= windowHeight;
+    }
+
+    public int getLastDrawnEntities() {
+        return lastDrawnEntities;
+    }
+
     @Override
     public void keyPressed(KeyEvent e) {
+        if (e.getKeyCode() == KeyEvent.VK_F3) {
+            showPerformanceOverlay = !showPerformanceOverlay;
+            repaint();
+            return;
+        }
         if (upgradeSelectionMode && gameState == GameState.PLAYING) {
             int choice = -1;
             if (e.getKeyCode() == KeyEvent.VK_1) choice = 1;
@@ -552,8 +654,7 @@ public class GameVisualizer extends JPanel implements KeyListener, ComponentList
             else if (e.getKeyCode() == KeyEvent.VK_3) choice = 3;
 
             if (choice > 0 && choice <= offeredUpgrades.size()) {
-                UpgradeType selectedUpgrade = offeredUpgrades.get(choice - 1);
-                player.applyUpgrade(selectedUpgrade);
+                world.chooseUpgrade(choice - 1);
                 upgradeSelectionMode = false;
                 isPaused = false;
                 offeredUpgrades.clear();
@@ -0,0 +1,101 @@
+package gui.Visuals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ResourceBundle;
+
+// Строки HUD рендерятся в картинки и перерисовываются только когда меняется значение
+public class HudRenderer {
+    public static final Font HUD_FONT = new Font("Arial", Font.BOLD, 20);
+    private static final int LEFT = 20;
+    private static final int FIRST_BASELINE = 30;
+    private static final int LINE_SPACING = 30;
+    private static final int WAVE = 0;
+    private static final int ENEMIES = 1;
+    private static final int LEVEL = 2;
+    private static final int HEALTH = 3;
+    private static final int COINS = 4;
+    private static final int KILLS = 5;
+
+    private final String[] prefixes;
+    private final String xpLabel;
+    private final HudLine[] lines = new HudLine[6];
+    private int renderCount;
+
+    private static final class HudLine {
+        int first = Integer.MIN_VALUE;
+        int second = Integer.MIN_VALUE;
+        int third = Integer.MIN_VALUE;
+        BufferedImage image;
+        int ascent;
+    }
+
+    public HudRenderer(ResourceBundle bundle) {
+        prefixes = new String[] {
+                bundle.getString("waves"),
+                bundle.getString("enemies"),
+                bundle.getString("levelLabel"),
+                bundle.getString("healthLabel"),
+                bundle.getString("coinsLabel"),
+                bundle.getString("enemiesKilledLabel")
+        };
+        xpLabel = bundle.getString("xpLabel");
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = new HudLine();
+        }
+    }
+
+    public void draw(Graphics2D g2d, WorldSnapshot frame) {
+        drawLine(g2d, WAVE, frame.getWave(), 0, 0);
+        drawLine(g2d, ENEMIES, frame.getEnemiesAlive(), 0, 0);
+        drawLine(g2d, LEVEL, frame.getLevel(), frame.getXp(), frame.getXpToNextLevel());
+        drawLine(g2d, HEALTH, frame.getHealth(), frame.getMaxHealth(), 0);
+        drawLine(g2d, COINS, frame.getCoins(), 0, 0);
+        drawLine(g2d, KILLS, frame.getEnemiesKilled(), 0, 0);
+    }
+
+    private void drawLine(Graphics2D g2d, int index, int first, int second, int third) {
+        HudLine line = lines[index];
+        if (line.image == null || line.first != first || line.second != second || line.third != third) {
+            line.first = first;
+            line.second = second;
+            line.third = third;
+            render(g2d, line, text(index, first, second, third));
+        }
+        int baseline = FIRST_BASELINE + index * LINE_SPACING;
+        g2d.drawImage(line.image, LEFT, baseline - line.ascent, null);
+    }
+
+    private String text(int index, int first, int second, int third) {
+        switch (index) {
+            case LEVEL:
+                return prefixes[LEVEL] + first + " " + xpLabel + second + "/" + third;
+            case HEALTH:
+                return prefixes[HEALTH] + first + "/" + second;
+            default:
+                return prefixes[index] + first;
+        }
+    }
+
+    private void render(Graphics2D target, HudLine line, String text) {
+        FontMetrics metrics = target.getFontMetrics(HUD_FONT);
+        int width = Math.max(1, metrics.stringWidth(text));
+        int height = Math.max(1, metrics.getAscent() + metrics.getDescent());
+        GraphicsConfiguration configuration = target.getDeviceConfiguration();
+        BufferedImage image = configuration != null
+                ? configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setFont(HUD_FONT);
+        g.setColor(Color.WHITE);
+        g.drawString(text, 0, metrics.getAscent());
+        g.dispose();
+        line.image = image;
+        line.ascent = metrics.getAscent();
+        renderCount++;
+    }
+
+    public int getRenderCount() {
+        return renderCount;
+    }
+}
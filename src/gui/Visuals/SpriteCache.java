@@ -0,0 +1,78 @@
+package gui.Visuals;
+
+import gui.Enemies.Enemy;
+import gui.Enemies.EnemyType;
+import gui.GameMechanics.Bullet;
+import gui.GameMechanics.Player;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+// Заранее отрисованные спрайты сущностей: на кадр остаются только drawImage.
+// Спрайты врагов лежат в массиве по id типа, поэтому поиск на кадре ничего не выделяет
+public class SpriteCache {
+    private final GraphicsConfiguration configuration;
+    private Image[] enemySprites = new Image[0];
+    private Image bulletSprite;
+    private Image playerSprite;
+    private int size;
+
+    public SpriteCache() {
+        this(GraphicsEnvironment.isHeadless() ? null
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration());
+    }
+
+    public SpriteCache(GraphicsConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public Image enemy(EnemyType type) {
+        int id = type.getId();
+        if (id >= enemySprites.length) {
+            enemySprites = Arrays.copyOf(enemySprites, Math.max(id + 1, EnemyType.count()));
+        }
+        Image sprite = enemySprites[id];
+        if (sprite == null) {
+            sprite = render(type.getSize(), g -> Enemy.drawAt(g, 0, 0, type.getSize(), type.getColor()));
+            enemySprites[id] = sprite;
+        }
+        return sprite;
+    }
+
+    public Image bullet() {
+        if (bulletSprite == null) {
+            bulletSprite = render(Bullet.SIZE, g -> Bullet.drawAt(g, 0, 0));
+        }
+        return bulletSprite;
+    }
+
+    public Image player() {
+        if (playerSprite == null) {
+            playerSprite = render(Player.SIZE, g -> Player.drawAt(g, 0, 0));
+        }
+        return playerSprite;
+    }
+
+    private Image render(int spriteSize, Consumer<Graphics2D> painter) {
+        BufferedImage image = createImage(spriteSize);
+        Graphics2D g = image.createGraphics();
+        painter.accept(g);
+        g.dispose();
+        size++;
+        return image;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // drawOval рисует контур шириной в пиксель за пределами size, поэтому +1
+    private BufferedImage createImage(int spriteSize) {
+        if (configuration != null) {
+            return configuration.createCompatibleImage(spriteSize + 1, spriteSize + 1, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(spriteSize + 1, spriteSize + 1, BufferedImage.TYPE_INT_ARGB);
+    }
+}
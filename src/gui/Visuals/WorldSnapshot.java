@@ -0,0 +1,154 @@
+package gui.Visuals;
+
+import gui.Enemies.Enemy;
+import gui.GameMechanics.Bullet;
+import gui.GameMechanics.Player;
+import gui.GameMechanics.World;
+import gui.WaveManager;
+
+import java.awt.*;
+import java.util.List;
+
+// Сущности в снимке отсортированы по ячейкам сетки CULL_CELL_SIZE,
+// чтобы отрисовка обходила только ячейки, попадающие в камеру
+public final class WorldSnapshot {
+    public static final int CULL_CELL_SIZE = 256;
+    public static final int CELL_COLUMNS = (World.MAP_SIZE + CULL_CELL_SIZE - 1) / CULL_CELL_SIZE;
+    private static final int CELL_COUNT = CELL_COLUMNS * CELL_COLUMNS;
+    private final double cameraOffsetX;
+    private final double cameraOffsetY;
+    private final double playerX;
+    private final double playerY;
+    private final double[] enemyX;
+    private final double[] enemyY;
+    private final int[] enemySize;
+    private final Color[] enemyColor;
+    private final int[] enemyTypeId;
+    private final int[] enemyCellStart = new int[CELL_COUNT + 1];
+    private final double[] bulletX;
+    private final double[] bulletY;
+    private final int[] bulletCellStart = new int[CELL_COUNT + 1];
+    private final int wave;
+    private final int enemiesAlive;
+    private final int level;
+    private final int xp;
+    private final int xpToNextLevel;
+    private final int health;
+    private final int maxHealth;
+    private final int coins;
+    private final int enemiesKilled;
+
+    private WorldSnapshot(Player player, List<Enemy> enemies, List<Bullet> bullets, WaveManager waveManager,
+                          double cameraOffsetX, double cameraOffsetY) {
+        this.cameraOffsetX = cameraOffsetX;
+        this.cameraOffsetY = cameraOffsetY;
+        this.playerX = player.getX();
+        this.playerY = player.getY();
+        synchronized (enemies) {
+            int count = enemies.size();
+            enemyX = new double[count];
+            enemyY = new double[count];
+            enemySize = new int[count];
+            enemyColor = new Color[count];
+            enemyTypeId = new int[count];
+            int[] cells = new int[count];
+            for (int i = 0; i < count; i++) {
+                Enemy enemy = enemies.get(i);
+                cells[i] = cellOf(enemy.getX(), enemy.getY());
+            }
+            int[] slots = countingSort(cells, enemyCellStart);
+            for (int i = 0; i < count; i++) {
+                Enemy enemy = enemies.get(i);
+                int slot = slots[i];
+                enemyX[slot] = enemy.getX();
+                enemyY[slot] = enemy.getY();
+                enemySize[slot] = enemy.getSize();
+                enemyColor[slot] = enemy.getColor();
+                enemyTypeId[slot] = enemy.getType().getId();
+            }
+        }
+        synchronized (bullets) {
+            int count = bullets.size();
+            bulletX = new double[count];
+            bulletY = new double[count];
+            int[] cells = new int[count];
+            for (int i = 0; i < count; i++) {
+                Bullet bullet = bullets.get(i);
+                cells[i] = cellOf(bullet.getX(), bullet.getY());
+            }
+            int[] slots = countingSort(cells, bulletCellStart);
+            for (int i = 0; i < count; i++) {
+                Bullet bullet = bullets.get(i);
+                bulletX[slots[i]] = bullet.getX();
+                bulletY[slots[i]] = bullet.getY();
+            }
+        }
+        this.wave = waveManager.getCurrentWave();
+        this.enemiesAlive = waveManager.getEnemiesAlive();
+        this.level = player.getLevel();
+        this.xp = player.getXp();
+        this.xpToNextLevel = player.getXpToNextLevel();
+        this.health = player.getHealth();
+        this.maxHealth = player.getMaxHealth();
+        this.coins = player.getCoins();
+        this.enemiesKilled = player.getEnemiesKilled();
+    }
+
+    public static int cellCoord(double value) {
+        int cell = (int) Math.floor(value / CULL_CELL_SIZE);
+        return Math.max(0, Math.min(cell, CELL_COLUMNS - 1));
+    }
+
+    private static int cellOf(double x, double y) {
+        return cellCoord(y) * CELL_COLUMNS + cellCoord(x);
+    }
+
+    // Заполняет начала ячеек и возвращает итоговую позицию каждого элемента
+    private static int[] countingSort(int[] cells, int[] cellStart) {
+        for (int cell : cells) {
+            cellStart[cell + 1]++;
+        }
+        for (int i = 0; i < CELL_COUNT; i++) {
+            cellStart[i + 1] += cellStart[i];
+        }
+        int[] cursor = new int[CELL_COUNT];
+        int[] slots = new int[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            int cell = cells[i];
+            slots[i] = cellStart[cell] + cursor[cell]++;
+        }
+        return slots;
+    }
+
+    public static WorldSnapshot capture(Player player, List<Enemy> enemies, List<Bullet> bullets,
+                                        WaveManager waveManager, double cameraOffsetX, double cameraOffsetY) {
+        return new WorldSnapshot(player, enemies, bullets, waveManager, cameraOffsetX, cameraOffsetY);
+    }
+
+    public double getCameraOffsetX() { return cameraOffsetX; }
+    public double getCameraOffsetY() { return cameraOffsetY; }
+    public double getPlayerX() { return playerX; }
+    public double getPlayerY() { return playerY; }
+    public int getEnemyCount() { return enemyX.length; }
+    public double getEnemyX(int index) { return enemyX[index]; }
+    public double getEnemyY(int index) { return enemyY[index]; }
+    public int getEnemySize(int index) { return enemySize[index]; }
+    public Color getEnemyColor(int index) { return enemyColor[index]; }
+    public int getEnemyTypeId(int index) { return enemyTypeId[index]; }
+    public int getEnemyCellStart(int cellX, int cellY) { return enemyCellStart[cellY * CELL_COLUMNS + cellX]; }
+    public int getEnemyCellEnd(int cellX, int cellY) { return enemyCellStart[cellY * CELL_COLUMNS + cellX + 1]; }
+    public int getBulletCount() { return bulletX.length; }
+    public double getBulletX(int index) { return bulletX[index]; }
+    public double getBulletY(int index) { return bulletY[index]; }
+    public int getBulletCellStart(int cellX, int cellY) { return bulletCellStart[cellY * CELL_COLUMNS + cellX]; }
+    public int getBulletCellEnd(int cellX, int cellY) { return bulletCellStart[cellY * CELL_COLUMNS + cellX + 1]; }
+    public int getWave() { return wave; }
+    public int getEnemiesAlive() { return enemiesAlive; }
+    public int getLevel() { return level; }
+    public int getXp() { return xp; }
+    public int getXpToNextLevel() { return xpToNextLevel; }
+    public int getHealth() { return health; }
+    public int getMaxHealth() { return maxHealth; }
+    public int getCoins() { return coins; }
+    public int getEnemiesKilled() { return enemiesKilled; }
+}
@@ -1,53 +1,65 @@
 package gui;
 
 import gui.Enemies.*;
+import gui.GameMechanics.Collisions;
 import gui.GameMechanics.Player;
-import gui.Visuals.GameVisualizer;
+import gui.GameMechanics.SpatialGrid;
+import gui.GameMechanics.World;
+import log.Logger;
 
 import java.util.*;
-import java.awt.Rectangle;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 public class WaveManager {
     private int currentWave = 0;
     private int pointsAvailable;
     private int enemiesAlive = 0;
     private long lastSpawnTime;
+    private boolean spawnPending;
     private static final long WAVE_COOLDOWN = 15000;
 
     public int getCurrentWave() { return currentWave; }
     public int getPointsAvailable() { return pointsAvailable; }
     public int getEnemiesAlive() { return enemiesAlive; }
+    public boolean hasPendingSpawns() { return spawnPending; }
     public static long getWaveCooldown() { return WAVE_COOLDOWN; }
     public void setEnemiesAlive(int i) { this.enemiesAlive = i; }
 
-    private static class EnemyCost {
-        Class<? extends Enemy> enemyClass;
-        int cost;
+    private final LongSupplier clock;
+    private final Random random;
+    private final Supplier<EnemyFactory.CostTable> costTables;
+    private SpatialGrid spawnGrid;
+    private int spawnGridMapSize;
+    private final List<Enemy> spawnOccupants = new ArrayList<>();
+    private boolean occupancyReady;
 
-        EnemyCost(Class<? extends Enemy> enemyClass, int cost) {
-            this.enemyClass = enemyClass;
-            this.cost = cost;
-        }
+    public WaveManager() {
+        this(System::currentTimeMillis, new Random());
     }
 
-    private final List<EnemyCost> enemyTypes = new ArrayList<>();
-    private final Random random = new Random();
+    public WaveManager(LongSupplier clock, Random random) {
+        this(clock, random, EnemyFactory::costTable);
+    }
 
-    public WaveManager() {
-        enemyTypes.add(new EnemyCost(BasicEnemy.class, 10));
-        enemyTypes.add(new EnemyCost(FastEnemy.class, 15));
-        enemyTypes.add(new EnemyCost(TankEnemy.class, 20));
+    // Таблица берётся заново при каждой расстановке, чтобы типы, зарегистрированные позже, тоже появлялись
+    public WaveManager(LongSupplier clock, Random random, Supplier<EnemyFactory.CostTable> costTables) {
+        this.clock = clock;
+        this.random = random;
+        this.costTables = costTables;
     }
 
     public void startNextWave() {
         currentWave++;
         pointsAvailable = 50 + currentWave * 20;
-        lastSpawnTime = System.currentTimeMillis();
+        lastSpawnTime = clock.getAsLong();
+        spawnPending = true;
+        releaseOccupancy();
     }
 
     public boolean shouldSpawnWave() {
         return enemiesAlive == 0 ||
-                System.currentTimeMillis() - lastSpawnTime > WAVE_COOLDOWN;
+                clock.getAsLong() - lastSpawnTime > WAVE_COOLDOWN;
     }
 
     public void enemyDied() {
@@ -55,46 +67,89 @@ public class WaveManager {
     }
 
     public List<Enemy> spawnEnemies(double playerX, double playerY, int mapSize, List<Enemy> existingEnemies) {
+        return spawnEnemies(playerX, playerY, mapSize, existingEnemies, Integer.MAX_VALUE);
+    }
+
+    // Ставит не больше maxCount врагов; остаток бюджета волны остаётся до следующего вызова
+    public List<Enemy> spawnEnemies(double playerX, double playerY, int mapSize, List<Enemy> existingEnemies,
+                                    int maxCount) {
         List<Enemy> newEnemies = new ArrayList<>();
+        EnemyFactory.CostTable costTable = costTables.get();
+        boolean trace = Logger.isTraceEnabled();
+        // Сетка занятости строится один раз на волну и живёт, пока волна доставляется по тикам;
+        // новые враги дописываются в неё по мере появления, и проверка позиции смотрит только соседние клетки.
+        // Сдвиг уже стоящих врагов за эти несколько тиков не учитывается - мелкие наложения разводит расталкивание
+        SpatialGrid grid = getSpawnGrid(mapSize);
+        if (!occupancyReady) {
+            spawnOccupants.addAll(existingEnemies);
+            grid.rebuild(spawnOccupants);
+            occupancyReady = true;
+        }
 
-        while (pointsAvailable > 0) {
-            EnemyCost randomEnemyType = getRandomAffordableEnemy();
-            if (randomEnemyType == null) break;
+        while (newEnemies.size() < maxCount) {
+            EnemyFactory factory = pointsAvailable > 0 ? costTable.pick(pointsAvailable, random) : null;
+            if (factory == null) {
+                spawnPending = false;
+                break;
+            }
 
-            double[] position = findFreePosition(playerX, playerY, mapSize, existingEnemies, newEnemies);
-            if (position == null) break;
+            double[] position = findFreePosition(playerX, playerY, mapSize, grid, spawnOccupants);
+            if (position == null) {
+                spawnPending = false;
+                break;
+            }
 
-            pointsAvailable -= randomEnemyType.cost;
+            pointsAvailable -= factory.getCost();
             enemiesAlive++;
 
-            try {
-                Enemy enemy = randomEnemyType.enemyClass
-                        .getConstructor(double.class, double.class)
-                        .newInstance(position[0], position[1]);
-                newEnemies.add(enemy);
-            } catch (Exception e) {
-                e.printStackTrace();
+            Enemy enemy = factory.create(position[0], position[1]);
+            newEnemies.add(enemy);
+            grid.insert(spawnOccupants.size(), enemy.getX(), enemy.getY(), enemy.getCollisionRadius());
+            spawnOccupants.add(enemy);
+            if (trace) {
+                Logger.trace("Wave {}: spawned {} at {}", currentWave, enemy.getType().getName(),
+                        (int) position[0] + "," + (int) position[1]);
             }
         }
 
+        if (!spawnPending) {
+            releaseOccupancy();
+        }
+        if (trace) {
+            Logger.trace("Wave {}: spawned {} enemies, {} points left", currentWave, newEnemies.size(), pointsAvailable);
+        }
         return newEnemies;
     }
 
+    private SpatialGrid getSpawnGrid(int mapSize) {
+        if (spawnGrid == null || spawnGridMapSize != mapSize) {
+            spawnGrid = new SpatialGrid(mapSize, World.ENEMY_GRID_CELL_SIZE);
+            spawnGridMapSize = mapSize;
+            releaseOccupancy();
+        }
+        return spawnGrid;
+    }
+
+    private void releaseOccupancy() {
+        spawnOccupants.clear();
+        occupancyReady = false;
+    }
+
     private double[] findFreePosition(double playerX, double playerY, int mapSize,
-                                      List<Enemy> existingEnemies, List<Enemy> newEnemies) {
+                                      SpatialGrid grid, List<Enemy> occupants) {
         int attempts = 0;
         while (attempts < 100) {
             double angle = random.nextDouble() * 2 * Math.PI;
-            double distance = GameVisualizer.ENEMY_SPAWN_RADIUS + random.nextDouble() * 300;
+            double distance = World.ENEMY_SPAWN_RADIUS + random.nextDouble() * 300;
             double spawnX = playerX + Math.cos(angle) * distance;
             double spawnY = playerY + Math.sin(angle) * distance;
 
-            spawnX = Math.max(GameVisualizer.BORDER_PADDING,
-                    Math.min(spawnX, mapSize - Player.SIZE - GameVisualizer.BORDER_PADDING));
-            spawnY = Math.max(GameVisualizer.BORDER_PADDING,
-                    Math.min(spawnY, mapSize - Player.SIZE - GameVisualizer.BORDER_PADDING));
+            spawnX = Math.max(World.BORDER_PADDING,
+                    Math.min(spawnX, mapSize - Player.SIZE - World.BORDER_PADDING));
+            spawnY = Math.max(World.BORDER_PADDING,
+                    Math.min(spawnY, mapSize - Player.SIZE - World.BORDER_PADDING));
 
-            if (isPositionFree(spawnX, spawnY, existingEnemies, newEnemies)) {
+            if (isPositionFree(spawnX, spawnY, grid, occupants)) {
                 return new double[]{spawnX, spawnY};
             }
             attempts++;
@@ -102,45 +157,34 @@ public class WaveManager {
         return null;
     }
 
-    private boolean isPositionFree(double x, double y, List<Enemy> existingEnemies, List<Enemy> newEnemies) {
-        Rectangle newEnemyBounds = new Rectangle(
-                (int)(x - (double) Player.SIZE / 2),
-                (int)(y - (double) Player.SIZE / 2),
-                Player.SIZE,
-                Player.SIZE
-        );
-
-        for (Enemy enemy : existingEnemies) {
-            if (newEnemyBounds.intersects(enemy.getCollisionBounds())) {
-                return false;
-            }
-        }
-
-        for (Enemy enemy : newEnemies) {
-            if (newEnemyBounds.intersects(enemy.getCollisionBounds())) {
-                return false;
+    private boolean isPositionFree(double x, double y, SpatialGrid grid, List<Enemy> occupants) {
+        double half = Player.SIZE / 2.0;
+        // Пересечься могут только враги, чей центр ближе половины суммы размеров
+        double reach = half + grid.getMaxCollisionRadius() / 2.0;
+        int fromX = grid.cellCoord(x - reach);
+        int toX = grid.cellCoord(x + reach);
+        int fromY = grid.cellCoord(y - reach);
+        int toY = grid.cellCoord(y + reach);
+        for (int cellY = fromY; cellY <= toY; cellY++) {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                for (int id = grid.first(cellX, cellY); id != SpatialGrid.EMPTY; id = grid.next(id)) {
+                    Enemy enemy = occupants.get(id);
+                    if (Collisions.centeredBoxesOverlap(x, y, half, enemy.getX(), enemy.getY(), enemy.getCollisionRadius() / 2.0)) {
+                        return false;
+                    }
+                }
             }
         }
-
         return true;
     }
 
-    private EnemyCost getRandomAffordableEnemy() {
-        List<EnemyCost> affordableEnemies = new ArrayList<>();
-        for (EnemyCost ec : enemyTypes) {
-            if (ec.cost <= pointsAvailable) {
-                affordableEnemies.add(ec);
-            }
-        }
-        return affordableEnemies.isEmpty() ? null :
-                affordableEnemies.get(random.nextInt(affordableEnemies.size()));
-    }
-
     public void reset() {
         currentWave = 0;
         pointsAvailable = 0;
         enemiesAlive = 0;
         lastSpawnTime = 0;
+        spawnPending = false;
+        releaseOccupancy();
     }
 
     public void setLastSpawnTime(long time) {
@@ -0,0 +1,181 @@
+package gui.performance;
+
+import log.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Тики пишет игровой поток, отрисовку - EDT, читают оверлей и JMX
+public class PerformanceMonitor implements PerformanceMonitorMXBean {
+    public static final String OBJECT_NAME = "gui.performance:type=PerformanceMonitor";
+    private static final long ALLOCATION_SAMPLE_NANOS = 1_000_000_000L;
+
+    private final TickPhase[] phases = TickPhase.values();
+    private final LatencyHistogram[] phaseHistograms = new LatencyHistogram[phases.length];
+    private final LatencyHistogram tickHistogram = new LatencyHistogram();
+    private final LatencyHistogram paintHistogram = new LatencyHistogram();
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private volatile long tickCount;
+    private volatile int enemyCount;
+    private volatile int bulletCount;
+    private volatile long allocationRate;
+    private long allocationSampleStart;
+    private long allocationSampleBytes = -1;
+    private ObjectName registeredName;
+
+    public PerformanceMonitor() {
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean sunThreads
+                && sunThreads.isThreadAllocatedMemorySupported()) {
+            allocationBean = sunThreads;
+        } else {
+            allocationBean = null;
+        }
+    }
+
+    public void recordPhase(TickPhase phase, long nanos) {
+        phaseHistograms[phase.ordinal()].record(nanos);
+    }
+
+    public void recordTick(long nanos, int enemies, int bullets) {
+        tickHistogram.record(nanos);
+        enemyCount = enemies;
+        bulletCount = bullets;
+        tickCount++;
+        sampleAllocations();
+    }
+
+    public void recordPaint(long nanos) {
+        paintHistogram.record(nanos);
+    }
+
+    // Считаем аллокации только потока симуляции - его мусор и вызывает паузы
+    private void sampleAllocations() {
+        if (allocationBean == null) return;
+        long now = System.nanoTime();
+        if (allocationSampleBytes >= 0 && now - allocationSampleStart < ALLOCATION_SAMPLE_NANOS) return;
+        long bytes = allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        if (bytes < 0) return;
+        if (allocationSampleBytes >= 0) {
+            allocationRate = (bytes - allocationSampleBytes) * 1_000_000_000L / (now - allocationSampleStart);
+        }
+        allocationSampleBytes = bytes;
+        allocationSampleStart = now;
+    }
+
+    public LatencyHistogram getPhaseHistogram(TickPhase phase) {
+        return phaseHistograms[phase.ordinal()];
+    }
+
+    public LatencyHistogram getTickHistogram() {
+        return tickHistogram;
+    }
+
+    public LatencyHistogram getPaintHistogram() {
+        return paintHistogram;
+    }
+
+    public void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            registeredName = name;
+        } catch (JMException e) {
+            Logger.error("Error registering performance monitor: {}", e.getMessage());
+        }
+    }
+
+    public void unregister() {
+        if (registeredName == null) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+        } catch (JMException e) {
+            Logger.error("Error unregistering performance monitor: {}", e.getMessage());
+        }
+        registeredName = null;
+    }
+
+    @Override
+    public double getTickP50Micros() {
+        return toMicros(tickHistogram.getValueAtPercentile(50));
+    }
+
+    @Override
+    public double getTickP99Micros() {
+        return toMicros(tickHistogram.getValueAtPercentile(99));
+    }
+
+    @Override
+    public double getPaintP50Micros() {
+        return toMicros(paintHistogram.getValueAtPercentile(50));
+    }
+
+    @Override
+    public double getPaintP99Micros() {
+        return toMicros(paintHistogram.getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Double> getPhaseP50Micros() {
+        return phasePercentiles(50);
+    }
+
+    @Override
+    public Map<String, Double> getPhaseP99Micros() {
+        return phasePercentiles(99);
+    }
+
+    private Map<String, Double> phasePercentiles(double percentile) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (TickPhase phase : phases) {
+            result.put(phase.name(), toMicros(getPhaseHistogram(phase).getValueAtPercentile(percentile)));
+        }
+        return result;
+    }
+
+    @Override
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    @Override
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    @Override
+    public int getBulletCount() {
+        return bulletCount;
+    }
+
+    @Override
+    public long getAllocationRateBytesPerSecond() {
+        return allocationRate;
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : phaseHistograms) {
+            histogram.reset();
+        }
+        tickHistogram.reset();
+        paintHistogram.reset();
+        tickCount = 0;
+    }
+
+    private static double toMicros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
@@ -0,0 +1,27 @@
+package gui.performance;
+
+import java.util.Map;
+
+public interface PerformanceMonitorMXBean {
+    double getTickP50Micros();
+
+    double getTickP99Micros();
+
+    double getPaintP50Micros();
+
+    double getPaintP99Micros();
+
+    Map<String, Double> getPhaseP50Micros();
+
+    Map<String, Double> getPhaseP99Micros();
+
+    long getTickCount();
+
+    int getEnemyCount();
+
+    int getBulletCount();
+
+    long getAllocationRateBytesPerSecond();
+
+    void reset();
+}
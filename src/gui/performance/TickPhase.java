@@ -0,0 +1,10 @@
+package gui.performance;
+
+public enum TickPhase {
+    MOVE_PLAYER,
+    SHOOT,
+    UPDATE_BULLETS,
+    MOVE_ENEMIES,
+    COLLISIONS,
+    SPAWNING
+}
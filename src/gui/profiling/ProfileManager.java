@@ -184,7 +184,7 @@ public class ProfileManager {
                         try {
                             prefs.clear();
                         } catch (BackingStoreException e) {
-                            Logger.error("Error clearing preferences: " + e.getMessage());
+                            Logger.error("Error clearing preferences: {}", e.getMessage());
                         }
                     }
                 }
@@ -208,7 +208,7 @@ public class ProfileManager {
                     try {
                         prefs.clear();
                     } catch (BackingStoreException e) {
-                        Logger.error("Error clearing preferences: " + e.getMessage());
+                        Logger.error("Error clearing preferences: {}", e.getMessage());
                     }
                 }
             }
@@ -276,7 +276,7 @@ public class ProfileManager {
     }
 
     public static void handleProfileLoadError(Component parent, ResourceBundle bundle, Exception e) {
-        Logger.error("Error loading profile: " + e.getMessage());
+        Logger.error("Error loading profile: {}", e.getMessage());
         JOptionPane.showMessageDialog(
                 parent,
                 bundle.getString("loadError") + e.getMessage(),
@@ -104,7 +104,7 @@ public class WindowStateManager {
                 ((BasicWindow) window).setTranslatedTitle(frame.bundle);
             }
         } catch (Exception e) {
-            Logger.error("Error restoring window state for " + windowId + ": " + e.getMessage());
+            Logger.error("Error restoring window state for {}: {}", windowId, e.getMessage());
         }
     }
 
@@ -118,7 +118,7 @@ public class WindowStateManager {
                 window.setIcon(true);
             }
         } catch (PropertyVetoException e) {
-            Logger.error("Can't apply special state: " + e.getMessage());
+            Logger.error("Can't apply special state: {}", e.getMessage());
         }
     }
 
@@ -159,6 +159,7 @@ public class WindowStateManager {
                     }
                 }
             }
+            player.resyncAchievements();
             visualizer.updateAchievementsPanel();
         }
 
@@ -209,7 +210,7 @@ public class WindowStateManager {
                 }
             }
         } catch (Exception e) {
-            Logger.error("Error saving window states: " + e.getMessage());
+            Logger.error("Error saving window states: {}", e.getMessage());
         }
         return states;
     }
@@ -38,4 +38,10 @@ public class GameWindow extends BasicWindow {
     public GameVisualizer getGameVisualizer() {
         return visualizer;
     }
+
+    @Override
+    public void dispose() {
+        visualizer.stopGameLoop();
+        super.dispose();
+    }
 }
\ No newline at end of file
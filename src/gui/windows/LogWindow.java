@@ -3,7 +3,11 @@ package gui.windows;
 import java.awt.BorderLayout;
 import java.awt.EventQueue;
 import java.awt.TextArea;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.JPanel;
 
 import log.LogChangeListener;
@@ -13,6 +17,10 @@ import log.LogWindowSource;
 public class LogWindow extends BasicWindow implements LogChangeListener {
     private final LogWindowSource logSource;
     private final TextArea logContent;
+    private final AtomicBoolean updatePending = new AtomicBoolean();
+    private final ArrayDeque<Integer> lineLengths = new ArrayDeque<>();
+    private int textLength;
+    private long nextSequence;
 
     public LogWindow(LogWindowSource logSource, ResourceBundle bundle) {
         super(true, true, true, true);
@@ -41,18 +49,50 @@ public class LogWindow extends BasicWindow implements LogChangeListener {
         setTranslatedTitle(bundle);
     }
 
+    // Дописываем только новые записи; если окно отстало больше чем на ёмкость буфера - перестраиваем целиком
     private void updateLogContent() {
+        updatePending.set(false);
+        boolean rebuild = logSource.getOldestSequence() > nextSequence || textLength == 0;
+        List<LogEntry> entries = new ArrayList<>();
+        nextSequence = logSource.since(rebuild ? 0 : nextSequence, entries);
+        if (entries.isEmpty() && !rebuild) return;
+
         StringBuilder content = new StringBuilder();
-        for (LogEntry entry : logSource.all()) {
+        if (rebuild) {
+            lineLengths.clear();
+            textLength = 0;
+        }
+        for (LogEntry entry : entries) {
+            int start = content.length();
             content.append(entry.getMessage()).append("\n");
+            lineLengths.addLast(content.length() - start);
         }
-        logContent.setText(content.toString());
+        textLength += content.length();
+        if (rebuild) {
+            logContent.setText(content.toString());
+        } else {
+            logContent.append(content.toString());
+        }
+        trimToCapacity();
         logContent.invalidate();
     }
 
+    private void trimToCapacity() {
+        int removed = 0;
+        while (lineLengths.size() > logSource.getCapacity()) {
+            removed += lineLengths.removeFirst();
+        }
+        if (removed > 0) {
+            logContent.replaceRange("", 0, removed);
+            textLength -= removed;
+        }
+    }
+
     @Override
     public void onLogChanged() {
-        EventQueue.invokeLater(this::updateLogContent);
+        if (updatePending.compareAndSet(false, true)) {
+            EventQueue.invokeLater(this::updateLogContent);
+        }
     }
 
     @Override
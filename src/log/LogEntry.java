@@ -4,11 +4,18 @@ public class LogEntry
 {
     private final LogLevel m_logLevel;
     private final String m_strMessage;
+    private final long m_timestamp;
     
     public LogEntry(LogLevel logLevel, String strMessage)
+    {
+        this(logLevel, strMessage, System.currentTimeMillis());
+    }
+
+    public LogEntry(LogLevel logLevel, String strMessage, long timestamp)
     {
         m_strMessage = strMessage;
         m_logLevel = logLevel;
+        m_timestamp = timestamp;
     }
     
     public String getMessage()
@@ -20,5 +27,10 @@ public class LogEntry
     {
         return m_logLevel;
     }
+
+    public long getTimestamp()
+    {
+        return m_timestamp;
+    }
 }
 
@@ -0,0 +1,6 @@
+package log;
+
+public interface LogSink
+{
+    void write(LogEntry entry);
+}
@@ -1,17 +1,39 @@
 package log;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+// Кольцевой буфер фиксированной ёмкости: писатели захватывают номер через AtomicLong
+// и публикуют запись в свой слот без блокировок, читатели получают копию
 public class LogWindowSource {
     private final int m_iQueueLength;
-    private final ArrayList<LogEntry> m_messages;
+    private final AtomicReferenceArray<Slot> m_slots;
+    private final AtomicLong m_nextSequence = new AtomicLong();
     private final ArrayList<LogChangeListener> m_listeners;
     private volatile LogChangeListener[] m_activeListeners;
+    private volatile LogSink[] m_sinks = new LogSink[0];
+    private volatile int m_iThreshold = LogLevel.Debug.level();
+
+    private static final class Slot {
+        final long sequence;
+        final LogEntry entry;
+
+        Slot(long sequence, LogEntry entry) {
+            this.sequence = sequence;
+            this.entry = entry;
+        }
+    }
 
     public LogWindowSource(int iQueueLength) {
+        if (iQueueLength <= 0) {
+            throw new IllegalArgumentException("Queue length must be positive: " + iQueueLength);
+        }
         m_iQueueLength = iQueueLength;
-        m_messages = new ArrayList<>(iQueueLength);
+        m_slots = new AtomicReferenceArray<>(iQueueLength);
         m_listeners = new ArrayList<>();
     }
 
@@ -31,14 +53,41 @@ public class LogWindowSource {
         }
     }
 
-    public void append(LogLevel logLevel, String strMessage) {
-        LogEntry entry = new LogEntry(logLevel, strMessage);
+    public synchronized void attachSink(LogSink sink) {
+        LogSink[] sinks = Arrays.copyOf(m_sinks, m_sinks.length + 1);
+        sinks[sinks.length - 1] = sink;
+        m_sinks = sinks;
+    }
+
+    public synchronized void detachSink(LogSink sink) {
+        List<LogSink> sinks = new ArrayList<>(Arrays.asList(m_sinks));
+        sinks.remove(sink);
+        m_sinks = sinks.toArray(new LogSink[0]);
+    }
 
-        synchronized (m_messages) {
-            if (m_messages.size() == m_iQueueLength) {
-                m_messages.remove(0);
+    public void setThreshold(LogLevel threshold) {
+        m_iThreshold = threshold.level();
+    }
+
+    public LogLevel getThreshold() {
+        for (LogLevel level : LogLevel.values()) {
+            if (level.level() == m_iThreshold) {
+                return level;
             }
-            m_messages.add(entry);
+        }
+        return LogLevel.Debug;
+    }
+
+    public boolean isEnabled(LogLevel logLevel) {
+        return logLevel.level() >= m_iThreshold;
+    }
+
+    public void append(LogLevel logLevel, String strMessage) {
+        if (!isEnabled(logLevel)) return;
+        LogEntry entry = new LogEntry(logLevel, strMessage);
+        publish(m_nextSequence.getAndIncrement(), entry);
+        for (LogSink sink : m_sinks) {
+            sink.write(entry);
         }
 
         LogChangeListener[] activeListeners = m_activeListeners;
@@ -56,25 +105,87 @@ public class LogWindowSource {
         }
     }
 
-    public int size() {
-        synchronized (m_messages) {
-            return m_messages.size();
+    private void publish(long sequence, LogEntry entry) {
+        int index = (int) (sequence % m_iQueueLength);
+        Slot slot = new Slot(sequence, entry);
+        while (true) {
+            Slot current = m_slots.get(index);
+            // Более новый писатель уже обогнал нас на круг - наша запись всё равно вытеснена
+            if (current != null && current.sequence > sequence) {
+                return;
+            }
+            if (m_slots.compareAndSet(index, current, slot)) {
+                return;
+            }
         }
     }
 
+    // Считаем только опубликованные записи - ровно те, что отдаст all()
+    public int size() {
+        long end = m_nextSequence.get();
+        return snapshot(Math.max(0, end - m_iQueueLength), end, m_iQueueLength).size();
+    }
+
     public Iterable<LogEntry> range(int startFrom, int count) {
-        synchronized (m_messages) {
-            if (startFrom < 0 || startFrom >= m_messages.size()) {
-                return Collections.emptyList();
-            }
-            int indexTo = Math.min(startFrom + count, m_messages.size());
-            return m_messages.subList(startFrom, indexTo);
+        if (startFrom < 0 || count <= 0) {
+            return Collections.emptyList();
         }
+        long end = m_nextSequence.get();
+        long first = Math.max(0, end - m_iQueueLength);
+        return snapshot(first + startFrom, end, count);
     }
 
     public Iterable<LogEntry> all() {
-        synchronized (m_messages) {
-            return new ArrayList<>(m_messages);
+        long end = m_nextSequence.get();
+        return snapshot(Math.max(0, end - m_iQueueLength), end, m_iQueueLength);
+    }
+
+    public int getCapacity() {
+        return m_iQueueLength;
+    }
+
+    public long getNextSequence() {
+        return m_nextSequence.get();
+    }
+
+    public long getOldestSequence() {
+        return Math.max(0, m_nextSequence.get() - m_iQueueLength);
+    }
+
+    // Добавляет в out записи, начиная с fromSequence (или с самой старой сохранившейся),
+    // и возвращает номер, с которого продолжать в следующий раз
+    public long since(long fromSequence, List<? super LogEntry> out) {
+        long end = m_nextSequence.get();
+        long from = Math.max(fromSequence, Math.max(0, end - m_iQueueLength));
+        return collect(from, end, m_iQueueLength, out);
+    }
+
+    private List<LogEntry> snapshot(long from, long end, int limit) {
+        List<LogEntry> result = new ArrayList<>((int) Math.max(0, Math.min(limit, end - from)));
+        collect(from, end, limit, result);
+        return result;
+    }
+
+    // Возвращает номер после последней выданной записи, поэтому продолжение с него
+    // не отдаст ни одной записи дважды
+    private long collect(long from, long end, int limit, List<? super LogEntry> out) {
+        long sequence = from;
+        int taken = 0;
+        while (sequence < end && taken < limit) {
+            Slot slot = m_slots.get((int) (sequence % m_iQueueLength));
+            if (slot == null || slot.sequence < sequence) {
+                // Запись захвачена, но ещё не опубликована - отдаём непрерывный префикс
+                break;
+            }
+            if (slot.sequence > sequence) {
+                // Писатель обогнал нас на круг: всё до новой самой старой записи уже вытеснено
+                sequence = Math.max(sequence + 1, m_nextSequence.get() - m_iQueueLength);
+                continue;
+            }
+            out.add(slot.entry);
+            taken++;
+            sequence++;
         }
+        return sequence;
     }
 }
@@ -1,5 +1,7 @@
 package log;
 
+import java.util.function.Supplier;
+
 public final class Logger
 {
     private static final LogWindowSource defaultLogSource;
@@ -11,14 +13,203 @@ public final class Logger
     {
     }
 
+    public static boolean isEnabled(LogLevel level)
+    {
+        return defaultLogSource.isEnabled(level);
+    }
+
+    public static boolean isTraceEnabled()
+    {
+        return defaultLogSource.isEnabled(LogLevel.Trace);
+    }
+
+    public static boolean isDebugEnabled()
+    {
+        return defaultLogSource.isEnabled(LogLevel.Debug);
+    }
+
+    // Сообщение форматируется только если уровень проходит порог.
+    // Перегрузки фиксированной арности не создают массив varargs.
+    public static void log(LogLevel level, String strMessage)
+    {
+        defaultLogSource.append(level, strMessage);
+    }
+
+    public static void log(LogLevel level, String pattern, Object arg)
+    {
+        if (defaultLogSource.isEnabled(level))
+        {
+            defaultLogSource.append(level, format(pattern, 1, arg, null, null));
+        }
+    }
+
+    public static void log(LogLevel level, String pattern, Object arg1, Object arg2)
+    {
+        if (defaultLogSource.isEnabled(level))
+        {
+            defaultLogSource.append(level, format(pattern, 2, arg1, arg2, null));
+        }
+    }
+
+    public static void log(LogLevel level, String pattern, Object arg1, Object arg2, Object arg3)
+    {
+        if (defaultLogSource.isEnabled(level))
+        {
+            defaultLogSource.append(level, format(pattern, 3, arg1, arg2, arg3));
+        }
+    }
+
+    public static void log(LogLevel level, Supplier<String> message)
+    {
+        if (defaultLogSource.isEnabled(level))
+        {
+            defaultLogSource.append(level, message.get());
+        }
+    }
+
+    public static void trace(String strMessage)
+    {
+        log(LogLevel.Trace, strMessage);
+    }
+
+    public static void trace(String pattern, Object arg)
+    {
+        log(LogLevel.Trace, pattern, arg);
+    }
+
+    public static void trace(String pattern, Object arg1, Object arg2)
+    {
+        log(LogLevel.Trace, pattern, arg1, arg2);
+    }
+
+    public static void trace(String pattern, Object arg1, Object arg2, Object arg3)
+    {
+        log(LogLevel.Trace, pattern, arg1, arg2, arg3);
+    }
+
+    public static void trace(Supplier<String> message)
+    {
+        log(LogLevel.Trace, message);
+    }
+
     public static void debug(String strMessage)
     {
-        defaultLogSource.append(LogLevel.Debug, strMessage);
+        log(LogLevel.Debug, strMessage);
     }
-    
+
+    public static void debug(String pattern, Object arg)
+    {
+        log(LogLevel.Debug, pattern, arg);
+    }
+
+    public static void debug(String pattern, Object arg1, Object arg2)
+    {
+        log(LogLevel.Debug, pattern, arg1, arg2);
+    }
+
+    public static void debug(String pattern, Object arg1, Object arg2, Object arg3)
+    {
+        log(LogLevel.Debug, pattern, arg1, arg2, arg3);
+    }
+
+    public static void debug(Supplier<String> message)
+    {
+        log(LogLevel.Debug, message);
+    }
+
+    public static void info(String strMessage)
+    {
+        log(LogLevel.Info, strMessage);
+    }
+
+    public static void info(String pattern, Object arg)
+    {
+        log(LogLevel.Info, pattern, arg);
+    }
+
+    public static void info(String pattern, Object arg1, Object arg2)
+    {
+        log(LogLevel.Info, pattern, arg1, arg2);
+    }
+
+    public static void info(String pattern, Object arg1, Object arg2, Object arg3)
+    {
+        log(LogLevel.Info, pattern, arg1, arg2, arg3);
+    }
+
+    public static void info(Supplier<String> message)
+    {
+        log(LogLevel.Info, message);
+    }
+
+    public static void warning(String strMessage)
+    {
+        log(LogLevel.Warning, strMessage);
+    }
+
+    public static void warning(String pattern, Object arg)
+    {
+        log(LogLevel.Warning, pattern, arg);
+    }
+
+    public static void warning(String pattern, Object arg1, Object arg2)
+    {
+        log(LogLevel.Warning, pattern, arg1, arg2);
+    }
+
+    public static void warning(String pattern, Object arg1, Object arg2, Object arg3)
+    {
+        log(LogLevel.Warning, pattern, arg1, arg2, arg3);
+    }
+
+    public static void warning(Supplier<String> message)
+    {
+        log(LogLevel.Warning, message);
+    }
+
     public static void error(String strMessage)
     {
-        defaultLogSource.append(LogLevel.Error, strMessage);
+        log(LogLevel.Error, strMessage);
+    }
+
+    public static void error(String pattern, Object arg)
+    {
+        log(LogLevel.Error, pattern, arg);
+    }
+
+    public static void error(String pattern, Object arg1, Object arg2)
+    {
+        log(LogLevel.Error, pattern, arg1, arg2);
+    }
+
+    public static void error(String pattern, Object arg1, Object arg2, Object arg3)
+    {
+        log(LogLevel.Error, pattern, arg1, arg2, arg3);
+    }
+
+    public static void error(Supplier<String> message)
+    {
+        log(LogLevel.Error, message);
+    }
+
+    // Подставляет аргументы вместо "{}" по порядку; лишние "{}" остаются как есть
+    static String format(String pattern, int argCount, Object arg1, Object arg2, Object arg3)
+    {
+        StringBuilder result = new StringBuilder(pattern.length() + 16 * argCount);
+        int from = 0;
+        for (int i = 0; i < argCount; i++)
+        {
+            int placeholder = pattern.indexOf("{}", from);
+            if (placeholder < 0)
+            {
+                break;
+            }
+            result.append(pattern, from, placeholder);
+            result.append(i == 0 ? arg1 : i == 1 ? arg2 : arg3);
+            from = placeholder + 2;
+        }
+        result.append(pattern, from, pattern.length());
+        return result.toString();
     }
 
     public static LogWindowSource getDefaultLogSource()
@@ -0,0 +1,193 @@
+package log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Пишет записи лога в отображаемые в память сегменты фоновым потоком.
+// Формат сегмента: MAGIC, VERSION, затем записи [длина][время][уровень][UTF-8 сообщение],
+// нулевая длина - конец данных.
+public class SegmentFileAppender implements LogSink, AutoCloseable {
+    public static final int MAGIC = 0x4C4F4753;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+    public static final int RECORD_OVERHEAD = 4 + 8 + 1;
+    public static final String SEGMENT_PREFIX = "log-";
+    public static final String SEGMENT_SUFFIX = ".seg";
+    public static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+    public static final int DEFAULT_MAX_SEGMENTS = 16;
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    private static final long ERROR_OFFER_TIMEOUT_MILLIS = 50;
+    private static final long FORCE_INTERVAL_MILLIS = 1000;
+
+    private final File directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final BlockingQueue<LogEntry> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writerThread;
+    private final Thread shutdownHook = new Thread(this::close, "log-file-close-on-exit");
+    private volatile boolean running = true;
+    private int segmentIndex;
+    private RandomAccessFile segmentFile;
+    private MappedByteBuffer segment;
+    private long lastForce;
+
+    public SegmentFileAppender(File directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public SegmentFileAppender(File directory, int segmentSize, int maxSegments, int queueCapacity) throws IOException {
+        if (segmentSize <= HEADER_SIZE + RECORD_OVERHEAD) {
+            throw new IllegalArgumentException("Segment size is too small: " + segmentSize);
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create log directory " + directory);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        File[] existing = SegmentFileReader.listSegments(directory);
+        segmentIndex = existing.length == 0 ? 0 : SegmentFileReader.segmentNumber(existing[existing.length - 1]) + 1;
+        openSegment();
+        writerThread = new Thread(this::drainLoop, "log-file-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    // Игровые потоки не ждут диск: при полной очереди отладочные записи отбрасываются,
+    // и только ошибки ненадолго ждут места
+    @Override
+    public void write(LogEntry entry) {
+        if (!running) return;
+        if (queue.offer(entry)) return;
+        if (entry.getLevel().level() >= LogLevel.Error.level()) {
+            try {
+                if (queue.offer(entry, ERROR_OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        droppedCount.incrementAndGet();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void drainLoop() {
+        List<LogEntry> batch = new ArrayList<>();
+        try {
+            while (running || !queue.isEmpty()) {
+                LogEntry first = queue.poll(FORCE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch);
+                    for (LogEntry entry : batch) {
+                        writeRecord(entry);
+                    }
+                    batch.clear();
+                }
+                long now = System.currentTimeMillis();
+                if (now - lastForce >= FORCE_INTERVAL_MILLIS) {
+                    segment.force();
+                    lastForce = now;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            running = false;
+            e.printStackTrace();
+        }
+    }
+
+    private void writeRecord(LogEntry entry) throws IOException {
+        byte[] message = encode(entry.getMessage());
+        int length = RECORD_OVERHEAD + message.length;
+        if (segment.remaining() < length + 4) {
+            rollSegment();
+        }
+        // Длину пишем последней, чтобы читатель не увидел недописанную запись
+        int start = segment.position();
+        segment.position(start + 4);
+        segment.putLong(entry.getTimestamp());
+        segment.put((byte) entry.getLevel().ordinal());
+        segment.put(message);
+        segment.putInt(start, length);
+    }
+
+    private byte[] encode(String message) {
+        byte[] bytes = (message == null ? "" : message).getBytes(StandardCharsets.UTF_8);
+        int maxMessage = segmentSize - HEADER_SIZE - RECORD_OVERHEAD - 4;
+        if (bytes.length > maxMessage) {
+            byte[] truncated = new byte[maxMessage];
+            System.arraycopy(bytes, 0, truncated, 0, maxMessage);
+            return truncated;
+        }
+        return bytes;
+    }
+
+    private void openSegment() throws IOException {
+        File file = new File(directory, SegmentFileReader.segmentName(segmentIndex));
+        segmentFile = new RandomAccessFile(file, "rw");
+        segment = segmentFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.putInt(MAGIC);
+        segment.putInt(VERSION);
+        deleteOldSegments();
+    }
+
+    private void rollSegment() throws IOException {
+        closeSegment();
+        segmentIndex++;
+        openSegment();
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment.remaining() >= 4) {
+            segment.putInt(segment.position(), 0);
+        }
+        segment.force();
+        segmentFile.close();
+    }
+
+    private void deleteOldSegments() {
+        File[] segments = SegmentFileReader.listSegments(directory);
+        for (int i = 0; i < segments.length - maxSegments; i++) {
+            if (!segments[i].delete()) {
+                segments[i].deleteOnExit();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        try {
+            writerThread.join();
+            if (segmentFile.getChannel().isOpen()) {
+                closeSegment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM уже завершается - закрытие вызвано из хука
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+// Читает сегменты SegmentFileAppender: хвост последних записей и поиск по всей истории
+public final class SegmentFileReader {
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private SegmentFileReader() {
+    }
+
+    public static List<LogEntry> tail(File directory, int count) throws IOException {
+        if (count <= 0) return new ArrayList<>();
+        ArrayDeque<LogEntry> last = new ArrayDeque<>(count);
+        File[] segments = listSegments(directory);
+        // Идём с конца и останавливаемся, как только набрали нужное число записей
+        List<List<LogEntry>> newestFirst = new ArrayList<>();
+        int collected = 0;
+        for (int i = segments.length - 1; i >= 0 && collected < count; i--) {
+            List<LogEntry> entries = new ArrayList<>();
+            readSegment(segments[i], entry -> true, entries);
+            newestFirst.add(entries);
+            collected += entries.size();
+        }
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            for (LogEntry entry : newestFirst.get(i)) {
+                if (last.size() == count) {
+                    last.removeFirst();
+                }
+                last.addLast(entry);
+            }
+        }
+        return new ArrayList<>(last);
+    }
+
+    public static List<LogEntry> search(File directory, String text) throws IOException {
+        return search(directory, LogLevel.Trace, text);
+    }
+
+    public static List<LogEntry> search(File directory, LogLevel minLevel, String text) throws IOException {
+        return search(directory, entry -> entry.getLevel().level() >= minLevel.level()
+                && (text == null || entry.getMessage().contains(text)));
+    }
+
+    public static List<LogEntry> search(File directory, Predicate<LogEntry> filter) throws IOException {
+        List<LogEntry> result = new ArrayList<>();
+        for (File segment : listSegments(directory)) {
+            readSegment(segment, filter, result);
+        }
+        return result;
+    }
+
+    static void readSegment(File file, Predicate<LogEntry> filter, List<LogEntry> out) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            FileChannel channel = raf.getChannel();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < SegmentFileAppender.HEADER_SIZE
+                    || buffer.getInt() != SegmentFileAppender.MAGIC) {
+                throw new IOException("Not a log segment: " + file);
+            }
+            int version = buffer.getInt();
+            if (version != SegmentFileAppender.VERSION) {
+                throw new IOException("Unsupported log segment version " + version + " in " + file);
+            }
+            byte[] message = new byte[256];
+            while (buffer.remaining() >= 4) {
+                int length = buffer.getInt();
+                if (length < SegmentFileAppender.RECORD_OVERHEAD || length - 4 > buffer.remaining()) break;
+                try {
+                    long timestamp = buffer.getLong();
+                    int levelIndex = buffer.get();
+                    int messageLength = length - SegmentFileAppender.RECORD_OVERHEAD;
+                    if (message.length < messageLength) {
+                        message = new byte[Math.max(messageLength, message.length * 2)];
+                    }
+                    buffer.get(message, 0, messageLength);
+                    LogLevel level = levelIndex >= 0 && levelIndex < LEVELS.length ? LEVELS[levelIndex] : LogLevel.Fatal;
+                    LogEntry entry = new LogEntry(level, new String(message, 0, messageLength, StandardCharsets.UTF_8), timestamp);
+                    if (filter.test(entry)) {
+                        out.add(entry);
+                    }
+                } catch (BufferUnderflowException e) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public static File[] listSegments(File directory) {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SegmentFileAppender.SEGMENT_PREFIX)
+                && name.endsWith(SegmentFileAppender.SEGMENT_SUFFIX));
+        if (files == null) return new File[0];
+        Arrays.sort(files, Comparator.comparingInt(SegmentFileReader::segmentNumber));
+        return files;
+    }
+
+    static String segmentName(int index) {
+        return String.format("%s%06d%s", SegmentFileAppender.SEGMENT_PREFIX, index, SegmentFileAppender.SEGMENT_SUFFIX);
+    }
+
+    static int segmentNumber(File file) {
+        String name = file.getName();
+        try {
+            return Integer.parseInt(name.substring(SegmentFileAppender.SEGMENT_PREFIX.length(),
+                    name.length() - SegmentFileAppender.SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
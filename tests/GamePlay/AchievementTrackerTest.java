@@ -0,0 +1,69 @@
+package GamePlay;
+
+import gui.GameMechanics.Achievement;
+import gui.GameMechanics.AchievementTracker;
+import gui.GameMechanics.InMemoryProgressStore;
+import gui.GameMechanics.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AchievementTrackerTest {
+    private Achievement first;
+    private Achievement fifth;
+    private Achievement fifteenth;
+    private AchievementTracker tracker;
+
+    @Before
+    public void setUp() {
+        first = new Achievement("First", "", 1, 1);
+        fifth = new Achievement("Fifth", "", 5, 2);
+        fifteenth = new Achievement("Fifteenth", "", 15, 3);
+        tracker = new AchievementTracker(Arrays.asList(fifteenth, first, fifth));
+        tracker.resync(0);
+    }
+
+    @Test
+    public void testThresholdsCrossedInOrder() {
+        assertEquals(1, tracker.getNextThreshold());
+        assertTrue(tracker.onKillCountChanged(1));
+        assertEquals(1, tracker.getDamageBonus());
+        assertEquals(5, tracker.getNextThreshold());
+
+        assertFalse(tracker.onKillCountChanged(4));
+        assertTrue(tracker.onKillCountChanged(20));
+        assertEquals(6, tracker.getDamageBonus());
+        assertTrue(first.isUnlocked() && fifth.isUnlocked() && fifteenth.isUnlocked());
+        assertEquals(AchievementTracker.NO_THRESHOLD, tracker.getNextThreshold());
+    }
+
+    @Test
+    public void testResyncAfterExternalReset() {
+        tracker.onKillCountChanged(20);
+        for (Achievement achievement : Arrays.asList(first, fifth, fifteenth)) {
+            achievement.reset();
+        }
+        tracker.resync(5);
+        assertEquals(3, tracker.getDamageBonus());
+        assertFalse(fifteenth.isUnlocked());
+        assertEquals(15, tracker.getNextThreshold());
+    }
+
+    @Test
+    public void testPlayerDamageMatchesUnlockedAchievements() {
+        List<Achievement> achievements = new ArrayList<>(Arrays.asList(first, fifth, fifteenth));
+        Player player = new Player(0, 0, achievements, new InMemoryProgressStore(), () -> 0L, new Random(1));
+        int baseDamage = player.getBulletDamage();
+
+        for (int i = 0; i < 15; i++) {
+            player.addEnemyKill();
+        }
+        assertEquals(baseDamage + 6, player.getBulletDamage());
+    }
+}
@@ -0,0 +1,56 @@
+package GamePlay;
+
+import gui.Visuals.BackgroundRenderer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BackgroundRendererTest {
+    private BufferedImage source;
+
+    @Before
+    public void setUp() {
+        source = new BufferedImage(1000, 600, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < source.getHeight(); y++) {
+            for (int x = 0; x < source.getWidth(); x++) {
+                source.setRGB(x, y, (x & 0xFF) << 16 | (y & 0xFF) << 8);
+            }
+        }
+    }
+
+    @Test
+    public void testTilesCoverWholeImage() {
+        BackgroundRenderer renderer = new BackgroundRenderer(source, 256, null);
+        assertEquals(4 * 3, renderer.getTileCount());
+        assertEquals(1000, renderer.getWidth());
+        assertEquals(600, renderer.getHeight());
+    }
+
+    @Test
+    public void testOnlyVisibleTilesAreDrawn() {
+        BackgroundRenderer renderer = new BackgroundRenderer(source, 256, null);
+        BufferedImage target = new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        renderer.draw(g, 200, 100, 300, 200);
+        g.dispose();
+
+        assertEquals(2 * 2, renderer.getLastDrawnTiles());
+        assertEquals(source.getRGB(200, 100), target.getRGB(0, 0));
+        assertEquals(source.getRGB(499, 299), target.getRGB(299, 199));
+        assertEquals(source.getRGB(256, 256), target.getRGB(56, 156));
+    }
+
+    @Test
+    public void testViewportOutsideImageDrawsNothing() {
+        BackgroundRenderer renderer = new BackgroundRenderer(source, 256, null);
+        BufferedImage target = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        renderer.draw(g, 2000, 2000, 100, 100);
+        g.dispose();
+        assertEquals(0, renderer.getLastDrawnTiles());
+    }
+}
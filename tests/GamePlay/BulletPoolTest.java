@@ -0,0 +1,54 @@
+package GamePlay;
+
+import gui.GameMechanics.Bullet;
+import gui.GameMechanics.BulletPool;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulletPoolTest {
+    private BulletPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new BulletPool();
+    }
+
+    @Test
+    public void testReleasedBulletIsReused() {
+        Bullet first = pool.acquire(0, 0, 10, 0, 5, () -> 0L);
+        pool.release(first);
+        assertEquals(1, pool.getFreeCount());
+
+        Bullet second = pool.acquire(100, 200, 100, 300, 7, () -> 0L);
+
+        assertSame(first, second);
+        assertEquals(0, pool.getFreeCount());
+    }
+
+    @Test
+    public void testReusedBulletIsReinitialised() {
+        Bullet bullet = pool.acquire(0, 0, 10, 0, 5, () -> 0L);
+        bullet.update();
+        pool.release(bullet);
+        assertFalse(bullet.isActive());
+
+        Bullet reused = pool.acquire(100, 200, 100, 300, 7, () -> 0L);
+
+        assertTrue(reused.isActive());
+        assertEquals(100, reused.getX());
+        assertEquals(200, reused.getY());
+        assertEquals(7, reused.getDamage());
+        reused.update();
+        assertEquals(100, reused.getX(), 0.0001);
+        assertEquals(210, reused.getY(), 0.0001);
+    }
+
+    @Test
+    public void testEmptyPoolCreatesNewBullets() {
+        Bullet first = pool.acquire(0, 0, 10, 0, 5, () -> 0L);
+        Bullet second = pool.acquire(0, 0, 10, 0, 5, () -> 0L);
+        assertNotSame(first, second);
+    }
+}
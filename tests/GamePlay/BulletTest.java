@@ -58,4 +58,12 @@ public class BulletTest {
 
         assertFalse(bullet.checkCollision(enemy), "Bullet should not collide with enemy far away");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testNoCollisionJustOutsideEnemyEdge() {
+        Bullet bullet = new Bullet(100, 100, 100, 200, 10);
+        Enemy enemy = new BasicEnemy(130, 100);
+
+        assertFalse(bullet.checkCollision(enemy), "Bullet box ending before the enemy box should not collide");
+    }
+}
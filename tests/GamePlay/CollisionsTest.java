@@ -0,0 +1,47 @@
+package GamePlay;
+
+import gui.GameMechanics.Collisions;
+import org.junit.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionsTest {
+
+    @Test
+    public void testSegmentCrossingBox() {
+        assertTrue(Collisions.segmentIntersectsBox(0, 50, 100, 50, 40, 40, 60, 60));
+    }
+
+    @Test
+    public void testSegmentEndingBeforeBox() {
+        assertFalse(Collisions.segmentIntersectsBox(0, 50, 30, 50, 40, 40, 60, 60));
+    }
+
+    @Test
+    public void testSegmentPassingBesideBox() {
+        assertFalse(Collisions.segmentIntersectsBox(0, 0, 100, 30, 40, 40, 60, 60));
+    }
+
+    @Test
+    public void testDiagonalSegmentThroughBox() {
+        assertTrue(Collisions.segmentIntersectsBox(0, 0, 100, 100, 40, 40, 60, 60));
+    }
+
+    @Test
+    public void testPointInsideAndOutsideBox() {
+        assertTrue(Collisions.segmentIntersectsBox(50, 50, 50, 50, 40, 40, 60, 60));
+        assertFalse(Collisions.segmentIntersectsBox(70, 50, 70, 50, 40, 40, 60, 60));
+    }
+
+    @Test
+    public void testCenteredBoxes() {
+        assertTrue(Collisions.centeredBoxesOverlap(0, 0, 15, 29, 0, 15));
+        assertFalse(Collisions.centeredBoxesOverlap(0, 0, 15, 30, 0, 15));
+    }
+
+    @Test
+    public void testCircles() {
+        assertTrue(Collisions.circlesOverlap(0, 0, 5, 6, 6, 5));
+        assertFalse(Collisions.circlesOverlap(0, 0, 5, 8, 8, 5));
+    }
+}
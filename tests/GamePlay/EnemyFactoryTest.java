@@ -0,0 +1,83 @@
+package GamePlay;
+
+import gui.Enemies.BasicEnemy;
+import gui.Enemies.Enemy;
+import gui.Enemies.EnemyFactory;
+import gui.Enemies.EnemyType;
+import gui.Enemies.FastEnemy;
+import gui.Enemies.TankEnemy;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnemyFactoryTest {
+
+    @Test
+    public void testBuiltInFactoriesCreateTheirEnemies() {
+        Enemy basic = EnemyFactory.BASIC.create(10, 20);
+        assertTrue(basic instanceof BasicEnemy);
+        assertEquals(10, basic.getX());
+        assertEquals(20, basic.getY());
+        assertTrue(EnemyFactory.FAST.create(0, 0) instanceof FastEnemy);
+        assertTrue(EnemyFactory.TANK.create(0, 0) instanceof TankEnemy);
+        assertSame(EnemyType.TANK, EnemyFactory.TANK.getType());
+    }
+
+    @Test
+    public void testRegistryContainsBuiltIns() {
+        List<EnemyFactory> all = EnemyFactory.all();
+        assertTrue(all.contains(EnemyFactory.BASIC));
+        assertTrue(all.contains(EnemyFactory.FAST));
+        assertTrue(all.contains(EnemyFactory.TANK));
+        assertSame(EnemyFactory.costTable(), EnemyFactory.costTable());
+    }
+
+    @Test
+    public void testAffordableCount() {
+        EnemyFactory.CostTable table = new EnemyFactory.CostTable(
+                List.of(EnemyFactory.TANK, EnemyFactory.BASIC, EnemyFactory.FAST));
+        assertEquals(0, table.affordableCount(9));
+        assertEquals(1, table.affordableCount(10));
+        assertEquals(2, table.affordableCount(19));
+        assertEquals(3, table.affordableCount(20));
+        assertEquals(3, table.affordableCount(1000));
+    }
+
+    @Test
+    public void testPickStaysWithinBudget() {
+        EnemyFactory.CostTable table = new EnemyFactory.CostTable(
+                List.of(EnemyFactory.BASIC, EnemyFactory.FAST, EnemyFactory.TANK));
+        Random random = new Random(1);
+        assertNull(table.pick(5, random));
+        for (int i = 0; i < 200; i++) {
+            EnemyFactory picked = table.pick(15, random);
+            assertNotNull(picked);
+            assertTrue(picked.getCost() <= 15);
+        }
+    }
+
+    @Test
+    public void testPickFollowsWeights() {
+        EnemyFactory rare = new EnemyFactory(EnemyType.BASIC, BasicEnemy::new, 10, 1);
+        EnemyFactory common = new EnemyFactory(EnemyType.FAST, FastEnemy::new, 10, 9);
+        EnemyFactory.CostTable table = new EnemyFactory.CostTable(List.of(rare, common));
+        Random random = new Random(42);
+
+        int commonCount = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (table.pick(10, random) == common) {
+                commonCount++;
+            }
+        }
+        // Ожидается около 90%
+        assertTrue(commonCount > 8500 && commonCount < 9500, "common picked " + commonCount + " times");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonPositiveWeight() {
+        new EnemyFactory(EnemyType.BASIC, BasicEnemy::new, 10, 0);
+    }
+}
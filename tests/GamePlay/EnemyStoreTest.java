@@ -0,0 +1,170 @@
+package GamePlay;
+
+import gui.Enemies.BasicEnemy;
+import gui.Enemies.Enemy;
+import gui.Enemies.EnemyStore;
+import gui.Enemies.EnemyType;
+import gui.Enemies.FastEnemy;
+import gui.Enemies.TankEnemy;
+import gui.GameMechanics.SpatialGrid;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnemyStoreTest {
+    private EnemyStore store;
+    private SpatialGrid grid;
+    private List<Enemy> enemies;
+
+    @Before
+    public void setUp() {
+        store = new EnemyStore();
+        grid = new SpatialGrid(3200, 64);
+        enemies = new ArrayList<>();
+    }
+
+    @Test
+    public void testLoadCopiesPackedState() {
+        enemies.add(new BasicEnemy(10, 20));
+        enemies.add(new TankEnemy(30, 40));
+        store.load(enemies);
+
+        assertEquals(2, store.getCount());
+        assertEquals(30, store.getX(1));
+        assertEquals(40, store.getY(1));
+        assertEquals(EnemyType.TANK.getId(), store.getTypeId(1));
+        assertEquals(EnemyType.TANK.getHealth(), store.getHealth(1));
+        assertEquals(40, store.getMaxCollisionRadius());
+    }
+
+    @Test
+    public void testSingleEnemyMovesLikeEnemyMove() {
+        Enemy reference = new FastEnemy(500, 500);
+        reference.move(800, 900, List.of());
+        enemies.add(new FastEnemy(500, 500));
+
+        moveOnce(800, 900);
+
+        assertEquals(reference.getX(), enemies.get(0).getX(), 1e-9);
+        assertEquals(reference.getY(), enemies.get(0).getY(), 1e-9);
+    }
+
+    @Test
+    public void testOverlappingEnemiesArePushedApart() {
+        enemies.add(new BasicEnemy(1000, 1000));
+        enemies.add(new BasicEnemy(1010, 1000));
+        double initialGap = 10;
+
+        moveOnce(1005, 2000);
+
+        double gap = Math.abs(enemies.get(1).getX() - enemies.get(0).getX());
+        assertTrue(gap > initialGap);
+    }
+
+    @Test
+    public void testSeparationReachDoesNotDependOnCellSize() {
+        // Ячейка много меньше врага: соседи лежат через несколько ячеек, но всё равно расталкиваются
+        grid = new SpatialGrid(3200, 8);
+        enemies.add(new BasicEnemy(1000, 1000));
+        enemies.add(new BasicEnemy(1025, 1000));
+        double initialGap = 25;
+
+        moveOnce(1012.5, 2000);
+
+        double gap = Math.abs(enemies.get(1).getX() - enemies.get(0).getX());
+        assertTrue(gap > initialGap);
+        assertEquals(30, grid.getMaxCollisionRadius());
+    }
+
+    @Test
+    public void testAppendAndRemoveKeepListOrder() {
+        enemies.add(new BasicEnemy(10, 10));
+        enemies.add(new FastEnemy(20, 20));
+        store.load(enemies);
+        store.append(List.of(new TankEnemy(30, 30), new BasicEnemy(40, 40)));
+        assertEquals(4, store.getCount());
+        assertEquals(40, store.getMaxCollisionRadius());
+
+        store.setHealth(1, 0);
+        store.removeDead();
+        assertEquals(3, store.getCount());
+        assertEquals(10, store.getX(0));
+        assertEquals(30, store.getX(1));
+        assertEquals(40, store.getX(2));
+
+        store.removeAt(1);
+        assertEquals(2, store.getCount());
+        assertEquals(10, store.getX(0));
+        assertEquals(40, store.getX(1));
+        assertEquals(EnemyType.BASIC.getId(), store.getTypeId(1));
+    }
+
+    @Test
+    public void testStoreGrowsWithEnemyCount() {
+        for (int i = 0; i < 500; i++) {
+            enemies.add(new BasicEnemy(i * 5, 100));
+        }
+        store.load(enemies);
+        assertEquals(500, store.getCount());
+        assertEquals(499 * 5, store.getX(499));
+    }
+
+    @Test
+    public void testEveryEnemyReadsPreviousTickPositions() {
+        enemies.add(new BasicEnemy(1000, 1000));
+        enemies.add(new BasicEnemy(1010, 1000));
+
+        moveOnce(1005, 2000);
+
+        double firstShift = 1000 - enemies.get(0).getX();
+        double secondShift = enemies.get(1).getX() - 1010;
+        assertEquals(firstShift, secondShift, 1e-9);
+    }
+
+    @Test
+    public void testParallelMovementIsDeterministic() {
+        List<Enemy> sequential = crowd();
+        List<Enemy> parallel = crowd();
+        EnemyStore sequentialStore = new EnemyStore(new ForkJoinPool(1), Integer.MAX_VALUE);
+        EnemyStore parallelStore = new EnemyStore(new ForkJoinPool(4), 1);
+
+        for (int tick = 0; tick < 20; tick++) {
+            moveOnce(sequentialStore, sequential, 1600, 1600);
+            moveOnce(parallelStore, parallel, 1600, 1600);
+        }
+
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getX(), parallel.get(i).getX());
+            assertEquals(sequential.get(i).getY(), parallel.get(i).getY());
+        }
+    }
+
+    private List<Enemy> crowd() {
+        List<Enemy> crowd = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            double angle = i * 0.61;
+            double distance = 200 + (i % 97) * 3;
+            crowd.add(new FastEnemy(1600 + Math.cos(angle) * distance, 1600 + Math.sin(angle) * distance));
+        }
+        return crowd;
+    }
+
+    private void moveOnce(EnemyStore enemyStore, List<Enemy> crowd, double targetX, double targetY) {
+        enemyStore.load(crowd);
+        enemyStore.fillGrid(grid);
+        enemyStore.moveAll(targetX, targetY, grid);
+        enemyStore.storePositions(crowd);
+    }
+
+    private void moveOnce(double targetX, double targetY) {
+        store.load(enemies);
+        store.fillGrid(grid);
+        store.moveAll(targetX, targetY, grid);
+        store.storePositions(enemies);
+    }
+}
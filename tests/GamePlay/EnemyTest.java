@@ -98,6 +98,16 @@ public class EnemyTest {
         assertFalse(basicEnemy.isAlive());
     }
 
+    @Test
+    public void testRespawnRestoresHealthAndPosition() {
+        basicEnemy.takeDamage(30);
+        basicEnemy.respawn(400, 500);
+        assertTrue(basicEnemy.isAlive());
+        assertEquals(basicEnemy.getType().getHealth(), basicEnemy.getHealth());
+        assertEquals(400, basicEnemy.getX());
+        assertEquals(500, basicEnemy.getY());
+    }
+
     @Test
     public void testPlayerEnemyCollision() {
         Player player = new Player(100.0, 100.0, new ArrayList<Achievement>());
@@ -0,0 +1,38 @@
+package GamePlay;
+
+import gui.Visuals.GameLoop;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameLoopTest {
+    private int ticks;
+    private GameLoop loop;
+
+    @Before
+    public void setUp() {
+        ticks = 0;
+        loop = new GameLoop(() -> ticks++, () -> {});
+    }
+
+    @Test
+    public void testRunsOneTickPerTimestep() {
+        assertEquals(0, loop.advance(GameLoop.TICK_NANOS / 2));
+        assertEquals(1, loop.advance(GameLoop.TICK_NANOS / 2));
+        assertEquals(1, ticks);
+    }
+
+    @Test
+    public void testCatchesUpAfterSlowFrame() {
+        assertEquals(3, loop.advance(GameLoop.TICK_NANOS * 3));
+        assertEquals(3, ticks);
+    }
+
+    @Test
+    public void testCatchUpIsCappedAndBacklogDropped() {
+        assertEquals(GameLoop.MAX_CATCH_UP_TICKS, loop.advance(GameLoop.TICK_NANOS * 100));
+        assertEquals(0, loop.advance(0));
+        assertEquals(GameLoop.MAX_CATCH_UP_TICKS, ticks);
+    }
+}
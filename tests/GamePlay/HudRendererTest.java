@@ -0,0 +1,56 @@
+package GamePlay;
+
+import gui.GameMechanics.Achievement;
+import gui.GameMechanics.InMemoryProgressStore;
+import gui.GameMechanics.World;
+import gui.Visuals.HudRenderer;
+import gui.Visuals.WorldSnapshot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HudRendererTest {
+    private World world;
+    private HudRenderer hud;
+    private Graphics2D g;
+
+    @Before
+    public void setUp() {
+        world = new World(new ArrayList<Achievement>(), 3L, new InMemoryProgressStore());
+        hud = new HudRenderer(ResourceBundle.getBundle("messages", Locale.ENGLISH));
+        g = new BufferedImage(400, 250, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    }
+
+    private WorldSnapshot capture() {
+        return WorldSnapshot.capture(world.getPlayer(), world.getEnemies(), world.getBullets(),
+                world.getWaveManager(), 0, 0);
+    }
+
+    @Test
+    public void testUnchangedValuesAreNotRerendered() {
+        hud.draw(g, capture());
+        assertEquals(6, hud.getRenderCount());
+        hud.draw(g, capture());
+        assertEquals(6, hud.getRenderCount());
+    }
+
+    @Test
+    public void testOnlyChangedLineIsRerendered() {
+        hud.draw(g, capture());
+        world.getPlayer().addCoins(5);
+        hud.draw(g, capture());
+        assertEquals(7, hud.getRenderCount());
+
+        world.getPlayer().takeDamage(10);
+        world.getPlayer().addEnemyKill();
+        hud.draw(g, capture());
+        assertEquals(9, hud.getRenderCount());
+    }
+}
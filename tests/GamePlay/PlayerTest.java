@@ -5,12 +5,14 @@ import gui.GameMechanics.Bullet;
 import gui.GameMechanics.Player;
 import gui.GameMechanics.UpgradeType;
 import gui.GameMechanics.Achievement;
+import gui.GameMechanics.InMemoryProgressStore;
 import gui.GameMechanics.ShopUpgradeType;
 import org.junit.Before;
 import org.junit.Test;
 import java.awt.*;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Random;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class PlayerTest {
@@ -79,6 +81,12 @@ public class PlayerTest {
         assertEquals(500 + Player.SIZE/2.0, bullet.getY());
     }
 
+    @Test
+    public void testShootingRespectsFireRate() {
+        assertEquals(1, player.shoot(600, 600).size());
+        assertTrue(player.shoot(600, 600).isEmpty());
+    }
+
     @Test
     public void testPlayerTakingDamage() {
         player.takeDamage(100);
@@ -129,6 +137,28 @@ public class PlayerTest {
         assertEquals(13, player.getBulletDamage());
     }
 
+    @Test
+    public void testLoweredKillCountLetsResetAchievementUnlockAgain() {
+        Achievement veteran = new Achievement("Veteran", "Kill 10 enemies", 10, 2);
+        List<Achievement> own = new ArrayList<>();
+        own.add(veteran);
+        Player fresh = new Player(500.0, 500.0, own, new InMemoryProgressStore(), () -> 0L, new Random(1));
+
+        fresh.setEnemiesKilled(10);
+        assertTrue(veteran.isUnlocked());
+        assertEquals(12, fresh.getBulletDamage());
+
+        // Сброс профиля: достижение заблокировано, счётчик убийств уменьшен
+        veteran.reset();
+        fresh.setEnemiesKilled(0);
+        assertEquals(10, fresh.getBulletDamage());
+
+        for (int i = 0; i < 10; i++) {
+            fresh.addEnemyKill();
+        }
+        assertTrue(veteran.isUnlocked());
+        assertEquals(12, fresh.getBulletDamage());
+    }
 
     @Test
     public void testShopInitialState() {
@@ -0,0 +1,97 @@
+package GamePlay;
+
+import gui.Enemies.Enemy;
+import gui.GameMechanics.Achievement;
+import gui.GameMechanics.InMemoryProgressStore;
+import gui.GameMechanics.Player;
+import gui.GameMechanics.Replay.ReplayEngine;
+import gui.GameMechanics.Replay.SessionRecording;
+import gui.GameMechanics.World;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplayTest {
+    private static final int TICKS = 3000;
+
+    private World newWorld(long seed) {
+        List<Achievement> achievements = new ArrayList<>();
+        achievements.add(new Achievement("First", "", 1, 1));
+        achievements.add(new Achievement("Five", "", 5, 2));
+        return new World(achievements, seed, new InMemoryProgressStore());
+    }
+
+    private void play(World world) {
+        Player player = world.getPlayer();
+        for (int i = 0; i < TICKS && !world.isGameOver(); i++) {
+            world.setMovement((i / 90) % 3 - 1, (i / 130) % 3 - 1);
+            double angle = i * 0.05;
+            world.setAim(player.getX() + Math.cos(angle) * 200, player.getY() + Math.sin(angle) * 200);
+            world.tick();
+            if (world.isAwaitingUpgrade()) {
+                world.chooseUpgrade(i % world.getOfferedUpgrades().size());
+            }
+        }
+    }
+
+    @Test
+    public void testSameSeedAndInputsGiveSameSession() {
+        World first = newWorld(42);
+        World second = newWorld(42);
+        play(first);
+        play(second);
+        assertSameState(first, second);
+    }
+
+    @Test
+    public void testReplayReproducesRecordedSession() {
+        World live = newWorld(7);
+        live.startRecording();
+        play(live);
+        SessionRecording recording = live.stopRecording();
+
+        World replayed = new ReplayEngine(recording).runToEnd();
+
+        assertTrue(live.getWaveManager().getCurrentWave() > 1);
+        assertSameState(live, replayed);
+    }
+
+    @Test
+    public void testRecordingSurvivesFileRoundTrip() throws IOException {
+        World live = newWorld(11);
+        live.startRecording();
+        play(live);
+        SessionRecording recording = live.stopRecording();
+        File file = File.createTempFile("session", ".replay");
+        file.deleteOnExit();
+
+        recording.save(file);
+        SessionRecording loaded = SessionRecording.load(file);
+
+        assertEquals(recording.getTickCount(), loaded.getTickCount());
+        assertSameState(live, new ReplayEngine(loaded).runToEnd());
+    }
+
+    private void assertSameState(World expected, World actual) {
+        assertEquals(expected.getTickCount(), actual.getTickCount());
+        assertEquals(expected.getPlayer().getX(), actual.getPlayer().getX());
+        assertEquals(expected.getPlayer().getY(), actual.getPlayer().getY());
+        assertEquals(expected.getPlayer().getHealth(), actual.getPlayer().getHealth());
+        assertEquals(expected.getPlayer().getLevel(), actual.getPlayer().getLevel());
+        assertEquals(expected.getPlayer().getEnemiesKilled(), actual.getPlayer().getEnemiesKilled());
+        assertEquals(expected.getWaveManager().getCurrentWave(), actual.getWaveManager().getCurrentWave());
+        List<Enemy> expectedEnemies = expected.getEnemies();
+        List<Enemy> actualEnemies = actual.getEnemies();
+        assertEquals(expectedEnemies.size(), actualEnemies.size());
+        for (int i = 0; i < expectedEnemies.size(); i++) {
+            assertEquals(expectedEnemies.get(i).getX(), actualEnemies.get(i).getX());
+            assertEquals(expectedEnemies.get(i).getY(), actualEnemies.get(i).getY());
+            assertEquals(expectedEnemies.get(i).getHealth(), actualEnemies.get(i).getHealth());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package GamePlay;
+
+import gui.Enemies.BasicEnemy;
+import gui.Enemies.Enemy;
+import gui.GameMechanics.SpatialGrid;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialGridTest {
+    private SpatialGrid grid;
+    private List<Enemy> enemies;
+
+    @Before
+    public void setUp() {
+        grid = new SpatialGrid(3200, 64);
+        enemies = new ArrayList<>();
+    }
+
+    @Test
+    public void testQueryReturnsOnlyNearbyEnemies() {
+        Enemy near = new BasicEnemy(100, 100);
+        Enemy far = new BasicEnemy(2000, 2000);
+        enemies.add(near);
+        enemies.add(far);
+        grid.rebuild(enemies);
+
+        List<Enemy> found = cellsCovering(50, 50, 150, 150);
+
+        assertTrue(found.contains(near));
+        assertFalse(found.contains(far));
+    }
+
+    @Test
+    public void testEnemiesInSameCellAreAllReturned() {
+        for (int i = 0; i < 5; i++) {
+            enemies.add(new BasicEnemy(10 + i, 10 + i));
+        }
+        grid.rebuild(enemies);
+
+        List<Enemy> found = cellsCovering(0, 0, 20, 20);
+
+        assertEquals(5, found.size());
+    }
+
+    @Test
+    public void testPositionsOutsideWorldAreClampedToEdgeCells() {
+        Enemy outside = new BasicEnemy(-50, 3300);
+        enemies.add(outside);
+        grid.rebuild(enemies);
+
+        List<Enemy> found = cellsCovering(0, 3150, 10, 3199);
+
+        assertEquals(List.of(outside), found);
+    }
+
+    @Test
+    public void testRebuildDropsStalePositions() {
+        Enemy enemy = new BasicEnemy(100, 100);
+        enemies.add(enemy);
+        grid.rebuild(enemies);
+        enemies.clear();
+        grid.rebuild(enemies);
+
+        List<Enemy> found = cellsCovering(0, 0, 200, 200);
+
+        assertTrue(found.isEmpty());
+    }
+
+    // Обход ячеек тем же способом, что и в World: first/next по спискам индексов
+    private List<Enemy> cellsCovering(double minX, double minY, double maxX, double maxY) {
+        List<Enemy> found = new ArrayList<>();
+        for (int cellY = grid.cellCoord(minY); cellY <= grid.cellCoord(maxY); cellY++) {
+            for (int cellX = grid.cellCoord(minX); cellX <= grid.cellCoord(maxX); cellX++) {
+                for (int id = grid.first(cellX, cellY); id != SpatialGrid.EMPTY; id = grid.next(id)) {
+                    found.add(enemies.get(id));
+                }
+            }
+        }
+        return found;
+    }
+}
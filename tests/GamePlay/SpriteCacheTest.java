@@ -0,0 +1,50 @@
+package GamePlay;
+
+import gui.Enemies.EnemyType;
+import gui.GameMechanics.Bullet;
+import gui.Visuals.SpriteCache;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpriteCacheTest {
+    @Test
+    public void testSpritesAreRenderedOnce() {
+        SpriteCache cache = new SpriteCache(null);
+        Image tank = cache.enemy(EnemyType.TANK);
+        assertSame(tank, cache.enemy(EnemyType.TANK));
+        assertSame(cache.bullet(), cache.bullet());
+        assertSame(cache.player(), cache.player());
+        assertEquals(3, cache.size());
+
+        assertNotSame(tank, cache.enemy(EnemyType.BASIC));
+        assertNotSame(tank, cache.enemy(EnemyType.FAST));
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    public void testSpriteMatchesDirectDrawing() {
+        SpriteCache cache = new SpriteCache(null);
+        BufferedImage enemy = (BufferedImage) cache.enemy(EnemyType.TANK);
+        assertEquals(EnemyType.TANK.getSize() + 1, enemy.getWidth());
+        assertEquals(EnemyType.TANK.getColor().getRGB(), enemy.getRGB(20, 20));
+        assertEquals(0, enemy.getRGB(0, 0) >>> 24);
+
+        BufferedImage bullet = (BufferedImage) cache.bullet();
+        assertEquals(Color.YELLOW.getRGB(), bullet.getRGB(Bullet.SIZE / 2, Bullet.SIZE / 2));
+    }
+
+    @Test
+    public void testSpritesAreDrawnWithoutAntialiasing() {
+        BufferedImage enemy = (BufferedImage) new SpriteCache(null).enemy(EnemyType.BASIC);
+        for (int y = 0; y < enemy.getHeight(); y++) {
+            for (int x = 0; x < enemy.getWidth(); x++) {
+                int alpha = enemy.getRGB(x, y) >>> 24;
+                assertTrue(alpha == 0 || alpha == 255, "partially transparent pixel at " + x + "," + y);
+            }
+        }
+    }
+}
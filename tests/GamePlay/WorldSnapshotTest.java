@@ -0,0 +1,55 @@
+package GamePlay;
+
+import gui.Enemies.BasicEnemy;
+import gui.Enemies.Enemy;
+import gui.Enemies.TankEnemy;
+import gui.GameMechanics.Achievement;
+import gui.GameMechanics.Bullet;
+import gui.GameMechanics.InMemoryProgressStore;
+import gui.GameMechanics.World;
+import gui.Visuals.WorldSnapshot;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorldSnapshotTest {
+    @Test
+    public void testEntitiesGroupedByCell() {
+        World world = new World(new ArrayList<Achievement>(), 1L, new InMemoryProgressStore());
+        List<Enemy> enemies = world.getEnemies();
+        enemies.add(new BasicEnemy(3000, 3000));
+        enemies.add(new TankEnemy(10, 10));
+        enemies.add(new BasicEnemy(20, 20));
+        enemies.add(new BasicEnemy(300, 10));
+        List<Bullet> bullets = world.getBullets();
+        bullets.add(new Bullet(2900, 2900, 3000, 3000, 10, () -> 0L));
+        bullets.add(new Bullet(5, 5, 10, 10, 10, () -> 0L));
+
+        WorldSnapshot snapshot = WorldSnapshot.capture(world.getPlayer(), enemies, bullets,
+                world.getWaveManager(), 0, 0);
+
+        assertEquals(4, snapshot.getEnemyCount());
+        assertEquals(0, snapshot.getEnemyCellStart(0, 0));
+        assertEquals(2, snapshot.getEnemyCellEnd(0, 0));
+        assertEquals(10.0, snapshot.getEnemyX(0));
+        assertEquals(20.0, snapshot.getEnemyX(1));
+        assertEquals(40, snapshot.getEnemySize(0));
+        assertEquals(1, snapshot.getEnemyCellEnd(1, 0) - snapshot.getEnemyCellStart(1, 0));
+
+        int last = WorldSnapshot.cellCoord(3000);
+        assertEquals(3, snapshot.getEnemyCellStart(last, last));
+        assertEquals(3000.0, snapshot.getEnemyX(snapshot.getEnemyCellStart(last, last)));
+
+        assertEquals(1, snapshot.getBulletCellEnd(0, 0));
+        assertEquals(5.0, snapshot.getBulletX(0));
+    }
+
+    @Test
+    public void testOutOfMapPositionsAreClampedToEdgeCells() {
+        assertEquals(0, WorldSnapshot.cellCoord(-100));
+        assertEquals(WorldSnapshot.CELL_COLUMNS - 1, WorldSnapshot.cellCoord(World.MAP_SIZE + 500));
+    }
+}
@@ -0,0 +1,184 @@
+package GamePlay;
+
+import gui.Enemies.BasicEnemy;
+import gui.Enemies.FastEnemy;
+import gui.Enemies.TankEnemy;
+import gui.GameMechanics.Achievement;
+import gui.GameMechanics.Player;
+import gui.GameMechanics.UpgradeType;
+import gui.GameMechanics.World;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorldTest {
+    private World world;
+    private Player player;
+
+    @Before
+    public void setUp() {
+        world = new World(new ArrayList<Achievement>());
+        player = world.getPlayer();
+    }
+
+    @Test
+    public void testFirstTickSpawnsWave() {
+        world.tick();
+        assertEquals(1, world.getWaveManager().getCurrentWave());
+        assertFalse(world.getEnemies().isEmpty());
+        assertEquals(1, world.getTickCount());
+    }
+
+    @Test
+    public void testScriptedMovement() {
+        world.setMovement(1, 0);
+        world.movePlayer();
+        assertEquals(World.MAP_SIZE / 2.0 + Player.getSpeed(), player.getX(), 0.0001);
+        assertEquals(World.MAP_SIZE / 2.0, player.getY(), 0.0001);
+    }
+
+    @Test
+    public void testShootingKillsEnemyInLineOfFire() {
+        FastEnemy enemy = new FastEnemy(player.getX() + 60, player.getY() + 60);
+        world.getEnemies().add(enemy);
+        world.getWaveManager().setEnemiesAlive(1);
+        world.setAim(enemy.getX(), enemy.getY());
+        world.shoot();
+
+        for (int i = 0; i < 10; i++) {
+            world.updateBullets();
+        }
+
+        assertTrue(world.getEnemies().isEmpty());
+        assertTrue(world.getBullets().isEmpty());
+        assertEquals(0, world.getWaveManager().getEnemiesAlive());
+    }
+
+    @Test
+    public void testBulletDamagesOnlyFirstEnemyInList() {
+        // Два врага в одной точке: пуля не пробивает, урон получает тот, кто раньше в списке
+        TankEnemy first = new TankEnemy(player.getX() + 60, player.getY() + 60);
+        TankEnemy second = new TankEnemy(player.getX() + 60, player.getY() + 60);
+        world.getEnemies().add(first);
+        world.getEnemies().add(second);
+        world.getWaveManager().setEnemiesAlive(2);
+        world.setAim(first.getX(), first.getY());
+        world.shoot();
+
+        for (int i = 0; i < 10; i++) {
+            world.updateBullets();
+        }
+
+        assertTrue(first.getHealth() < first.getType().getHealth());
+        assertEquals(second.getType().getHealth(), second.getHealth());
+        assertTrue(world.getBullets().isEmpty());
+    }
+
+    @Test
+    public void testContactDamagesPlayerAndEndsGame() {
+        world.getEnemies().add(new BasicEnemy(player.getX(), player.getY()));
+        player.takeDamage(player.getMaxHealth() - 1);
+
+        world.checkCollisions();
+
+        assertTrue(world.getEnemies().isEmpty());
+        assertTrue(world.isGameOver());
+    }
+
+    @Test
+    public void testContactUsesExactCircleOverlap() {
+        int size = new BasicEnemy(0, 0).getSize();
+        // Квадраты касаются углами, а круги - нет
+        BasicEnemy diagonal = new BasicEnemy(player.getX() - size + 2, player.getY() - size + 2);
+        BasicEnemy far = new BasicEnemy(player.getX() + 500, player.getY());
+        BasicEnemy touching = new BasicEnemy(player.getX() + Player.SIZE - 2, player.getY());
+        world.getEnemies().add(diagonal);
+        world.getEnemies().add(far);
+        world.getEnemies().add(touching);
+        int health = player.getHealth();
+
+        world.checkCollisions();
+
+        assertEquals(2, world.getEnemies().size());
+        assertSame(diagonal, world.getEnemies().get(0));
+        assertSame(far, world.getEnemies().get(1));
+        assertEquals(health - touching.getDamage(), player.getHealth());
+    }
+
+    @Test
+    public void testContactAfterMoveUsesMovedPositions() {
+        world.getEnemies().add(new BasicEnemy(player.getX() + Player.SIZE + 1, player.getY()));
+        world.moveEnemies();
+        world.checkCollisions();
+        assertTrue(world.getEnemies().isEmpty());
+    }
+
+    @Test
+    public void testLevelUpWaitsForUpgradeChoice() {
+        FastEnemy enemy = new FastEnemy(player.getX() + 60, player.getY() + 60);
+        world.getEnemies().add(enemy);
+        world.getWaveManager().setEnemiesAlive(1);
+        player.addXp(player.getXpToNextLevel() - enemy.getXpReward());
+        world.setAim(enemy.getX(), enemy.getY());
+        world.shoot();
+        for (int i = 0; i < 10; i++) {
+            world.updateBullets();
+        }
+
+        assertTrue(world.isAwaitingUpgrade());
+        assertEquals(Math.min(3, UpgradeType.values().length), world.getOfferedUpgrades().size());
+        long ticks = world.getTickCount();
+        world.tick();
+        assertEquals(ticks, world.getTickCount());
+
+        world.chooseUpgrade(0);
+        assertFalse(world.isAwaitingUpgrade());
+    }
+
+    @Test
+    public void testManyTicksRunWithoutView() {
+        world.setMovement(0, -1);
+        for (int i = 0; i < 500 && !world.isGameOver(); i++) {
+            world.setAim(player.getX() + 100, player.getY());
+            world.tick();
+            if (world.isAwaitingUpgrade()) {
+                world.chooseUpgrade(0);
+            }
+        }
+        assertTrue(world.getTickCount() > 0);
+        assertTrue(player.getY() < World.MAP_SIZE / 2.0);
+    }
+
+    @Test
+    public void testEnemyStoreStaysInSyncAcrossTicks() {
+        world.setMovement(1, 0);
+        for (int i = 0; i < 200 && !world.isGameOver(); i++) {
+            world.setAim(player.getX() + 100, player.getY());
+            world.tick();
+            if (world.isAwaitingUpgrade()) {
+                world.chooseUpgrade(0);
+            }
+        }
+
+        // После тика хранилище совпадает со списком без повторной загрузки
+        assertEquals(world.getEnemies().size(), world.getEnemyStore().getCount());
+        for (int i = 0; i < world.getEnemies().size(); i++) {
+            assertEquals(world.getEnemies().get(i).getX(), world.getEnemyStore().getX(i));
+            assertEquals(world.getEnemies().get(i).getY(), world.getEnemyStore().getY(i));
+            assertEquals(world.getEnemies().get(i).getHealth(), world.getEnemyStore().getHealth(i));
+        }
+    }
+
+    @Test
+    public void testReset() {
+        world.tick();
+        world.reset();
+        assertTrue(world.getEnemies().isEmpty());
+        assertTrue(world.getBullets().isEmpty());
+        assertEquals(0, world.getWaveManager().getCurrentWave());
+        assertFalse(world.isGameOver());
+    }
+}
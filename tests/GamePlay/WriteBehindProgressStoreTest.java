@@ -0,0 +1,105 @@
+package GamePlay;
+
+import gui.GameMechanics.InMemoryProgressStore;
+import gui.GameMechanics.Player;
+import gui.GameMechanics.WriteBehindProgressStore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteBehindProgressStoreTest {
+    private CountingStore backend;
+    private WriteBehindProgressStore store;
+
+    private static class CountingStore extends InMemoryProgressStore {
+        volatile int saves;
+        volatile int flushes;
+
+        @Override
+        public synchronized void save(String key, int value) {
+            saves++;
+            super.save(key, value);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        backend = new CountingStore();
+        store = new WriteBehindProgressStore(backend, 60_000);
+    }
+
+    @After
+    public void tearDown() {
+        store.close();
+    }
+
+    @Test
+    public void testKillsDoNotTouchBackendUntilFlush() {
+        Player player = new Player(0, 0, new ArrayList<>(), store, () -> 0L, new Random(1));
+        for (int i = 0; i < 100; i++) {
+            player.addEnemyKill();
+            player.addCoins(1);
+        }
+
+        assertEquals(0, backend.saves);
+        assertTrue(store.hasPendingWrites());
+        assertEquals(100, store.load("enemiesKilled", 0));
+
+        store.flush();
+        assertEquals(2, backend.saves);
+        assertEquals(100, backend.load("enemiesKilled", 0));
+        assertEquals(100, backend.load("playerCoins", 0));
+        assertFalse(store.hasPendingWrites());
+    }
+
+    @Test
+    public void testFlushWithoutChangesDoesNotTouchBackend() {
+        store.flush();
+        assertEquals(0, backend.flushes);
+
+        store.save("playerCoins", 5);
+        store.flush();
+        store.flush();
+        assertEquals(1, backend.saves);
+        assertEquals(1, backend.flushes);
+    }
+
+    @Test
+    public void testLoadFallsBackToBackend() {
+        backend.save("playerCoins", 42);
+        assertEquals(42, store.load("playerCoins", 0));
+        assertEquals(7, store.load("missing", 7));
+    }
+
+    @Test
+    public void testCloseFlushesPendingWrites() {
+        store.save("playerCoins", 5);
+        store.close();
+        assertEquals(5, backend.load("playerCoins", 0));
+    }
+
+    @Test
+    public void testBackgroundFlush() throws InterruptedException {
+        WriteBehindProgressStore fast = new WriteBehindProgressStore(backend, 10);
+        try {
+            fast.save("enemiesKilled", 3);
+            long deadline = System.currentTimeMillis() + 2000;
+            while (backend.load("enemiesKilled", 0) != 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(3, backend.load("enemiesKilled", 0));
+        } finally {
+            fast.close();
+        }
+    }
+}
@@ -6,6 +6,9 @@ import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 // проверка переполнения очереди логов и утечки
 public class LogWindowSourceTest {
@@ -51,4 +54,128 @@ public class LogWindowSourceTest {
             fail("Exception during reflection: " + e.getMessage());
         }
     }
+
+    @Test
+    public void testRangeReturnsSnapshot() {
+        for (int i = 0; i < QUEUE_LENGTH; i++) {
+            logWindowSource.append(LogLevel.Debug, "Message " + i);
+        }
+        Iterable<LogEntry> range = logWindowSource.range(1, 2);
+        logWindowSource.append(LogLevel.Debug, "Message " + QUEUE_LENGTH);
+
+        List<String> messages = new ArrayList<>();
+        for (LogEntry entry : range) {
+            messages.add(entry.getMessage());
+        }
+        assertEquals(List.of("Message 1", "Message 2"), messages);
+        assertFalse(logWindowSource.range(QUEUE_LENGTH, 1).iterator().hasNext());
+    }
+
+    @Test
+    public void testConcurrentAppendsKeepOrderPerWriter() throws InterruptedException {
+        LogWindowSource source = new LogWindowSource(1000);
+        int writers = 4;
+        int perWriter = 5000;
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            final int writer = w;
+            threads[w] = new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    source.append(LogLevel.Debug, writer + ":" + i);
+                }
+            });
+            threads[w].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1000, source.size());
+        Map<String, Integer> lastSeen = new HashMap<>();
+        int count = 0;
+        for (LogEntry entry : source.all()) {
+            String[] parts = entry.getMessage().split(":");
+            int index = Integer.parseInt(parts[1]);
+            Integer previous = lastSeen.put(parts[0], index);
+            assertTrue(previous == null || previous < index);
+            count++;
+        }
+        assertEquals(1000, count);
+    }
+
+    @Test
+    public void testSinceReturnsOnlyNewEntries() {
+        logWindowSource.append(LogLevel.Debug, "Message 0");
+        logWindowSource.append(LogLevel.Debug, "Message 1");
+        List<LogEntry> entries = new ArrayList<>();
+        long next = logWindowSource.since(0, entries);
+        assertEquals(2, next);
+        assertEquals(2, entries.size());
+
+        entries.clear();
+        logWindowSource.append(LogLevel.Debug, "Message 2");
+        next = logWindowSource.since(next, entries);
+        assertEquals(3, next);
+        assertEquals(1, entries.size());
+        assertEquals("Message 2", entries.get(0).getMessage());
+
+        entries.clear();
+        assertEquals(3, logWindowSource.since(next, entries));
+        assertTrue(entries.isEmpty());
+    }
+
+    @Test
+    public void testSinceSkipsOverwrittenEntries() {
+        for (int i = 0; i < QUEUE_LENGTH * 3; i++) {
+            logWindowSource.append(LogLevel.Debug, "Message " + i);
+        }
+        List<LogEntry> entries = new ArrayList<>();
+        long next = logWindowSource.since(1, entries);
+        assertEquals(QUEUE_LENGTH * 3, next);
+        assertEquals(QUEUE_LENGTH, entries.size());
+        assertEquals("Message " + QUEUE_LENGTH * 2, entries.get(0).getMessage());
+        assertEquals(QUEUE_LENGTH * 2, logWindowSource.getOldestSequence());
+    }
+
+    @Test
+    public void testSinceNeverRedeliversWhenWriterLapsReader() {
+        for (int i = 0; i < QUEUE_LENGTH; i++) {
+            logWindowSource.append(LogLevel.Debug, String.valueOf(i));
+        }
+        // Пока читатель забирает первую запись, писатель перезаписывает три следующих слота
+        List<LogEntry> delivered = new ArrayList<LogEntry>() {
+            @Override
+            public boolean add(LogEntry entry) {
+                if (isEmpty()) {
+                    for (int i = QUEUE_LENGTH; i < QUEUE_LENGTH + 3; i++) {
+                        logWindowSource.append(LogLevel.Debug, String.valueOf(i));
+                    }
+                }
+                return super.add(entry);
+            }
+        };
+        long next = logWindowSource.since(0, delivered);
+        next = logWindowSource.since(next, delivered);
+        assertEquals(QUEUE_LENGTH + 3, next);
+
+        int previous = -1;
+        for (LogEntry entry : delivered) {
+            int index = Integer.parseInt(entry.getMessage());
+            assertTrue("entry " + index + " delivered after " + previous, index > previous);
+            previous = index;
+        }
+        assertEquals(QUEUE_LENGTH + 2, previous);
+    }
+
+    @Test
+    public void testSizeCountsOnlyPublishedEntries() {
+        logWindowSource.append(LogLevel.Debug, "Message 0");
+        logWindowSource.append(LogLevel.Debug, "Message 1");
+        int count = 0;
+        for (LogEntry ignored : logWindowSource.all()) {
+            count++;
+        }
+        assertEquals(count, logWindowSource.size());
+        assertEquals(2, logWindowSource.size());
+    }
 }
@@ -0,0 +1,96 @@
+import log.LogEntry;
+import log.LogLevel;
+import log.LogWindowSource;
+import log.Logger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+// проверка порога уровней и отложенного форматирования
+public class LoggerTest {
+    private LogWindowSource source;
+    private LogLevel previousThreshold;
+    private long start;
+
+    @Before
+    public void setUp() {
+        source = Logger.getDefaultLogSource();
+        previousThreshold = source.getThreshold();
+        start = source.getNextSequence();
+    }
+
+    @After
+    public void tearDown() {
+        source.setThreshold(previousThreshold);
+    }
+
+    private List<LogEntry> newEntries() {
+        List<LogEntry> entries = new ArrayList<>();
+        source.since(start, entries);
+        return entries;
+    }
+
+    @Test
+    public void testTraceFilteredByDefaultThreshold() {
+        source.setThreshold(LogLevel.Debug);
+        assertFalse(Logger.isTraceEnabled());
+        Logger.trace("hidden {}", 1);
+        Logger.trace(() -> {
+            fail("Supplier must not be called below the threshold");
+            return "";
+        });
+        assertTrue(newEntries().isEmpty());
+    }
+
+    @Test
+    public void testParameterisedMessages() {
+        source.setThreshold(LogLevel.Trace);
+        Logger.trace("Wave {}: spawned {} enemies", 3, 12);
+        Logger.info("no args {}", "here", "ignored");
+        Logger.error(() -> "from supplier");
+
+        List<LogEntry> entries = newEntries();
+        assertEquals(3, entries.size());
+        assertEquals("Wave 3: spawned 12 enemies", entries.get(0).getMessage());
+        assertEquals(LogLevel.Trace, entries.get(0).getLevel());
+        assertEquals("no args here", entries.get(1).getMessage());
+        assertEquals("from supplier", entries.get(2).getMessage());
+    }
+
+    @Test
+    public void testEveryLevelAcceptsThreeArgumentsAndSupplier() {
+        source.setThreshold(LogLevel.Trace);
+        Logger.debug("{}-{}-{}", 1, 2, 3);
+        Logger.info("{}-{}-{}", 4, 5, 6);
+        Logger.info(() -> "info supplier");
+        Logger.warning("{}-{}-{}", 7, 8, 9);
+        Logger.warning(() -> "warning supplier");
+        Logger.error("{}-{}-{}", 10, 11, 12);
+
+        List<LogEntry> entries = newEntries();
+        assertEquals(6, entries.size());
+        assertEquals("1-2-3", entries.get(0).getMessage());
+        assertEquals(LogLevel.Debug, entries.get(0).getLevel());
+        assertEquals("4-5-6", entries.get(1).getMessage());
+        assertEquals("info supplier", entries.get(2).getMessage());
+        assertEquals(LogLevel.Info, entries.get(2).getLevel());
+        assertEquals("7-8-9", entries.get(3).getMessage());
+        assertEquals("warning supplier", entries.get(4).getMessage());
+        assertEquals(LogLevel.Warning, entries.get(4).getLevel());
+        assertEquals("10-11-12", entries.get(5).getMessage());
+        assertEquals(LogLevel.Error, entries.get(5).getLevel());
+    }
+
+    @Test
+    public void testThresholdAboveErrorDropsErrors() {
+        source.setThreshold(LogLevel.Fatal);
+        Logger.error("dropped");
+        assertTrue(newEntries().isEmpty());
+        assertEquals(LogLevel.Fatal, source.getThreshold());
+    }
+}
@@ -0,0 +1,80 @@
+import log.LogEntry;
+import log.LogLevel;
+import log.LogWindowSource;
+import log.SegmentFileAppender;
+import log.SegmentFileReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+// проверка записи лога в сегменты и чтения хвоста/поиска
+public class SegmentFileAppenderTest {
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("log-segments").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void testRecordsRoundTrip() throws IOException {
+        LogWindowSource source = new LogWindowSource(10);
+        SegmentFileAppender appender = new SegmentFileAppender(directory);
+        source.attachSink(appender);
+        for (int i = 0; i < 100; i++) {
+            source.append(i % 10 == 0 ? LogLevel.Error : LogLevel.Debug, "Сообщение " + i);
+        }
+        appender.close();
+
+        List<LogEntry> tail = SegmentFileReader.tail(directory, 3);
+        assertEquals(3, tail.size());
+        assertEquals("Сообщение 97", tail.get(0).getMessage());
+        assertEquals("Сообщение 99", tail.get(2).getMessage());
+        assertTrue(tail.get(2).getTimestamp() > 0);
+
+        List<LogEntry> errors = SegmentFileReader.search(directory, LogLevel.Error, null);
+        assertEquals(10, errors.size());
+        assertEquals(LogLevel.Error, errors.get(0).getLevel());
+
+        assertEquals(1, SegmentFileReader.search(directory, "Сообщение 42").size());
+    }
+
+    @Test
+    public void testSegmentsRollAndOldOnesAreDeleted() throws IOException {
+        SegmentFileAppender appender = new SegmentFileAppender(directory, 256, 3, 1024);
+        for (int i = 0; i < 200; i++) {
+            appender.write(new LogEntry(LogLevel.Info, "message number " + i));
+        }
+        appender.close();
+
+        assertEquals(3, SegmentFileReader.listSegments(directory).length);
+        List<LogEntry> tail = SegmentFileReader.tail(directory, 1);
+        assertEquals("message number 199", tail.get(0).getMessage());
+    }
+
+    @Test
+    public void testWritesAfterCloseAreIgnored() throws IOException {
+        SegmentFileAppender appender = new SegmentFileAppender(directory);
+        appender.close();
+        appender.write(new LogEntry(LogLevel.Info, "late"));
+        assertTrue(SegmentFileReader.search(directory, "late").isEmpty());
+    }
+}
@@ -0,0 +1,112 @@
+import gui.Enemies.BasicEnemy;
+import gui.Enemies.Enemy;
+import gui.GameMechanics.World;
+import gui.SpawnScheduler;
+import gui.WaveManager;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpawnSchedulerTest {
+    private static final double CENTER = World.MAP_SIZE / 2.0;
+
+    @Test
+    public void testWaveIsSpreadAcrossTicks() {
+        WaveManager waveManager = new WaveManager(() -> 0L, new Random(3));
+        SpawnScheduler scheduler = new SpawnScheduler(waveManager, 2);
+        List<Enemy> enemies = new ArrayList<>();
+
+        assertTrue(scheduler.hasWork());
+        List<Enemy> first = scheduler.spawnNext(CENTER, CENTER, World.MAP_SIZE, enemies);
+        enemies.addAll(first);
+        assertEquals(1, waveManager.getCurrentWave());
+        assertEquals(2, first.size());
+        assertTrue(waveManager.hasPendingSpawns());
+
+        int ticks = 1;
+        while (waveManager.hasPendingSpawns()) {
+            List<Enemy> next = scheduler.spawnNext(CENTER, CENTER, World.MAP_SIZE, enemies);
+            assertTrue(next.size() <= 2);
+            enemies.addAll(next);
+            ticks++;
+        }
+
+        // Дозаполнение не начинает новую волну
+        assertEquals(1, waveManager.getCurrentWave());
+        assertTrue(ticks > 1);
+        assertEquals(enemies.size(), waveManager.getEnemiesAlive());
+        assertFalse(scheduler.hasWork());
+    }
+
+    @Test
+    public void testPendingWaveIsNotReplacedWhenEnemiesDie() {
+        WaveManager waveManager = new WaveManager(() -> 0L, new Random(5));
+        SpawnScheduler scheduler = new SpawnScheduler(waveManager, 1);
+
+        scheduler.spawnNext(CENTER, CENTER, World.MAP_SIZE, new ArrayList<>());
+        waveManager.enemyDied();
+        assertEquals(0, waveManager.getEnemiesAlive());
+
+        // Враг убит раньше, чем волна доспавнилась - продолжаем текущую волну
+        assertTrue(scheduler.hasWork());
+        scheduler.spawnNext(CENTER, CENTER, World.MAP_SIZE, new ArrayList<>());
+        assertEquals(1, waveManager.getCurrentWave());
+    }
+
+    @Test
+    public void testChunkedSpawnMatchesWholeWave() {
+        WaveManager whole = new WaveManager(() -> 0L, new Random(11));
+        whole.startNextWave();
+        List<Enemy> expected = whole.spawnEnemies(CENTER, CENTER, World.MAP_SIZE, new ArrayList<>());
+
+        WaveManager chunked = new WaveManager(() -> 0L, new Random(11));
+        SpawnScheduler scheduler = new SpawnScheduler(chunked, 3);
+        List<Enemy> actual = new ArrayList<>();
+        do {
+            actual.addAll(scheduler.spawnNext(CENTER, CENTER, World.MAP_SIZE, actual));
+        } while (chunked.hasPendingSpawns());
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).getType(), actual.get(i).getType());
+            assertEquals(expected.get(i).getX(), actual.get(i).getX());
+            assertEquals(expected.get(i).getY(), actual.get(i).getY());
+        }
+    }
+
+    @Test
+    public void testPendingWaveReusesOccupancyGrid() {
+        WaveManager waveManager = new WaveManager(() -> 0L, new Random(13));
+        for (int i = 0; i < 20; i++) {
+            waveManager.startNextWave();
+        }
+        List<Enemy> crowd = new ArrayList<>();
+        for (int x = 1200; x < 2000; x += 40) {
+            for (int y = 1200; y < 1600; y += 40) {
+                crowd.add(new BasicEnemy(x, y));
+            }
+        }
+
+        List<Enemy> spawned = new ArrayList<>(waveManager.spawnEnemies(CENTER, CENTER, World.MAP_SIZE, crowd, 2));
+        assertTrue(waveManager.hasPendingSpawns());
+        // Следующие порции не перечитывают список: сетка волны уже знает о толпе
+        while (waveManager.hasPendingSpawns()) {
+            spawned.addAll(waveManager.spawnEnemies(CENTER, CENTER, World.MAP_SIZE, List.of(), 2));
+        }
+
+        for (Enemy enemy : spawned) {
+            for (Enemy existing : crowd) {
+                assertFalse(enemy.getCollisionBounds().intersects(existing.getCollisionBounds()));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonPositiveBudget() {
+        new SpawnScheduler(new WaveManager(), 0);
+    }
+}
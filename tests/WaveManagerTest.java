@@ -4,7 +4,10 @@ import gui.GameMechanics.Player;
 import gui.WaveManager;
 import org.junit.Before;
 import org.junit.Test;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class WaveManagerTest {
@@ -105,4 +108,50 @@ public class WaveManagerTest {
                     enemy instanceof TankEnemy);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSpawnAvoidsCrowdedAnnulus() {
+        WaveManager seeded = new WaveManager(System::currentTimeMillis, new Random(7));
+        for (int i = 0; i < 20; i++) {
+            seeded.startNextWave();
+        }
+
+        // Плотное кольцо врагов на части окружности спавна
+        List<Enemy> existingEnemies = new ArrayList<>();
+        for (int x = 1200; x < 2200; x += 40) {
+            for (int y = 1200; y < 1600; y += 40) {
+                existingEnemies.add(new BasicEnemy(x, y));
+            }
+        }
+
+        List<Enemy> newEnemies = seeded.spawnEnemies(1600, 1600, 3200, existingEnemies);
+
+        assertFalse(newEnemies.isEmpty());
+        for (Enemy enemy : newEnemies) {
+            for (Enemy existing : existingEnemies) {
+                assertFalse(enemy.getCollisionBounds().intersects(existing.getCollisionBounds()));
+            }
+        }
+    }
+
+    @Test
+    public void testFactoriesAddedLaterAreSpawned() {
+        AtomicReference<EnemyFactory.CostTable> table =
+                new AtomicReference<>(new EnemyFactory.CostTable(List.of(EnemyFactory.BASIC)));
+        WaveManager manager = new WaveManager(System::currentTimeMillis, new Random(9), table::get);
+
+        manager.startNextWave();
+        for (Enemy enemy : manager.spawnEnemies(1600, 1600, 3200, List.of())) {
+            assertTrue(enemy instanceof BasicEnemy);
+        }
+
+        // Таблица сменилась уже после создания менеджера - как после регистрации нового типа
+        table.set(new EnemyFactory.CostTable(List.of(EnemyFactory.TANK)));
+        manager.startNextWave();
+        List<Enemy> enemies = manager.spawnEnemies(1600, 1600, 3200, List.of());
+        assertFalse(enemies.isEmpty());
+        for (Enemy enemy : enemies) {
+            assertTrue(enemy instanceof TankEnemy);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package performance;
+
+import gui.GameMechanics.Achievement;
+import gui.GameMechanics.InMemoryProgressStore;
+import gui.GameMechanics.World;
+import gui.performance.LatencyHistogram;
+import gui.performance.PerformanceMonitor;
+import gui.performance.TickPhase;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PerformanceMonitorTest {
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.04, "p50 = " + p50);
+        assertTrue(p99 >= 990_000 && p99 <= 990_000 * 1.04, "p99 = " + p99);
+    }
+
+    @Test
+    public void testOutOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertTrue(histogram.getValueAtPercentile(100) >= LatencyHistogram.MAX_TRACKABLE_NANOS);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testWorldTickRecordsEveryPhase() {
+        World world = new World(new ArrayList<Achievement>(), 42L, new InMemoryProgressStore());
+        PerformanceMonitor monitor = new PerformanceMonitor();
+        world.setPerformanceMonitor(monitor);
+
+        for (int i = 0; i < 10; i++) {
+            world.tick();
+        }
+
+        assertEquals(10, monitor.getTickCount());
+        assertEquals(10, monitor.getTickHistogram().getCount());
+        for (TickPhase phase : TickPhase.values()) {
+            assertEquals(10, monitor.getPhaseHistogram(phase).getCount(), phase.name());
+        }
+        assertEquals(world.getEnemies().size(), monitor.getEnemyCount());
+        assertEquals(TickPhase.values().length, monitor.getPhaseP99Micros().size());
+    }
+
+    @Test
+    public void testExposedThroughJmx() throws Exception {
+        PerformanceMonitor monitor = new PerformanceMonitor();
+        monitor.recordTick(2_000_000, 7, 3);
+        monitor.register();
+        try {
+            ObjectName name = new ObjectName(PerformanceMonitor.OBJECT_NAME);
+            Object enemies = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "EnemyCount");
+            assertEquals(7, enemies);
+        } finally {
+            monitor.unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer()
+                .isRegistered(new ObjectName(PerformanceMonitor.OBJECT_NAME)));
+    }
+
+    @Test
+    public void testSnapshotAnswersSeveralPercentilesFromOneCopy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        long median = histogram.getValueAtPercentile(50);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        histogram.record(LatencyHistogram.MAX_TRACKABLE_NANOS);
+
+        assertEquals(100, snapshot.getCount());
+        assertEquals(median, snapshot.getValueAtPercentile(50));
+        // Запись после снимка в него не попадает
+        assertTrue(snapshot.getValueAtPercentile(100) < histogram.getValueAtPercentile(100));
+    }
+}